@@ -62,16 +62,13 @@ public abstract class SequenceFunctions extends ExpressionEvaluatingBuiltIn {
         @Override
         public Object apply(Object sequence) {
             List list = asList(sequence);
-            list = new ArrayList(list);
-            Collections.reverse(list);
-            return list;
+            return list.isEmpty() ? Collections.emptyList() : ListViews.range(list, list.size() - 1, 0);
         }
     }
 
     public static class Sort extends SequenceFunctions {
         @Override
         public Object apply(Object sequence) {
-            List list = asList(sequence);
             return sort(asList(sequence), null);
         }
     }
@@ -2,11 +2,11 @@ package freemarker3.builtins;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -27,8 +27,8 @@ import static freemarker3.core.variables.Wrap.*;
  */
 public abstract class StringFunctions extends ExpressionEvaluatingBuiltIn {
 
-    static private HashMap<String, Pattern> patternLookup = new HashMap<String, Pattern>();
-    static private LinkedList<String> patterns = new LinkedList<String>();
+    static private ConcurrentHashMap<String, Pattern> patternLookup = new ConcurrentHashMap<String, Pattern>();
+    static private ConcurrentLinkedQueue<String> patterns = new ConcurrentLinkedQueue<String>();
     static private final int PATTERN_CACHE_SIZE=100;
 
     static Pattern getPattern(String patternString, String flagString) {
@@ -64,12 +64,13 @@ public abstract class StringFunctions extends ExpressionEvaluatingBuiltIn {
                 throw new EvaluationException(e);
             }
         }
-        synchronized (patterns) {
+        if (patternLookup.putIfAbsent(patternKey, result) == null) {
             patterns.add(patternKey);
-            patternLookup.put(patternKey, result);
-            if (patterns.size() > PATTERN_CACHE_SIZE) {
-                Object first = patterns.removeFirst();
-                patterns.remove(first);
+            if (patternLookup.size() > PATTERN_CACHE_SIZE) {
+                String first = patterns.poll();
+                if (first != null) {
+                    patternLookup.remove(first);
+                }
             }
         }
         return result;
@@ -1,5 +1,6 @@
 package freemarker3.builtins;
 
+import freemarker3.cache.ExpressionCache;
 import freemarker3.core.Environment;
 import freemarker3.core.nodes.generated.BuiltInExpression;
 import freemarker3.core.nodes.generated.Expression;
@@ -31,6 +32,17 @@ public class evalBI extends ExpressionEvaluatingBuiltIn {
     }
 
     Object eval(String s, Environment env, BuiltInExpression caller) 
+    {
+        ExpressionCache cache = env.getConfiguration().getEvalCache();
+        Expression exp = cache.get(caller, s);
+        if (exp == null) {
+            exp = parse(s, env, caller);
+            cache.put(caller, s, exp);
+        }
+        return exp.evaluate(env);
+    }
+
+    private Expression parse(String s, Environment env, BuiltInExpression caller) 
     {
         String input = "(" + s + ")";
         FMLexer token_source= new FMLexer("input", input, FMLexer.LexicalState.EXPRESSION, caller.getBeginLine(), caller.getBeginColumn());;
@@ -43,6 +55,6 @@ public class evalBI extends ExpressionEvaluatingBuiltIn {
             pe.setTemplateName(caller.getTemplate().getName());
             throw new TemplateException(pe, env);
         }
-        return exp.evaluate(env);
+        return exp;
     }
 }
\ No newline at end of file
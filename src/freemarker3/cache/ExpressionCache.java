@@ -0,0 +1,130 @@
+package freemarker3.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import freemarker3.core.nodes.generated.Expression;
+
+/**
+ * Holds the expressions that <tt>?eval</tt> has parsed, so that a
+ * string that is evaluated again at the same place is not parsed again.
+ * Entries are keyed by the <tt>?eval</tt> call, compared by identity,
+ * together with the string. The call pins down the template, and the
+ * line and column that the parsed expression reports locations from.
+ * Up to the maximum size, the most recently used entries are kept.
+ * They are only softly referenced, since an entry holds on to the
+ * template of its call, which may have been reloaded since.
+ * The cache is thread-safe, and counts its hits and misses, so that
+ * its size can be tuned.
+ * @see freemarker3.template.Configuration#setEvalCacheSize(int)
+ */
+public class ExpressionCache
+{
+    private final MruCacheStorage storage;
+    private final int maxSize;
+    private final ReentrantLock storageLock = new ReentrantLock();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxSize the most entries to keep. If it is 0, nothing
+     * is cached.
+     */
+    public ExpressionCache(int maxSize)
+    {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize < 0");
+        }
+        this.maxSize = maxSize;
+        this.storage = maxSize > 0 ? new MruCacheStorage(0, maxSize) : null;
+    }
+
+    /**
+     * @return the expression parsed from the source for the given call,
+     * or null if it is not in the cache.
+     */
+    public Expression get(Object caller, String source)
+    {
+        Expression exp = null;
+        if (storage != null) {
+            storageLock.lock();
+            try {
+                exp = (Expression) storage.get(new ExpressionKey(caller, source));
+            }
+            finally {
+                storageLock.unlock();
+            }
+        }
+        (exp != null ? hits : misses).incrementAndGet();
+        return exp;
+    }
+
+    public void put(Object caller, String source, Expression exp)
+    {
+        if (storage == null) {
+            return;
+        }
+        storageLock.lock();
+        try {
+            storage.put(new ExpressionKey(caller, source), exp);
+        }
+        finally {
+            storageLock.unlock();
+        }
+    }
+
+    public void clear()
+    {
+        if (storage == null) {
+            return;
+        }
+        storageLock.lock();
+        try {
+            storage.clear();
+        }
+        finally {
+            storageLock.unlock();
+        }
+    }
+
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public long getHitCount()
+    {
+        return hits.get();
+    }
+
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    private static final class ExpressionKey
+    {
+        private final Object caller;
+        private final String source;
+
+        ExpressionKey(Object caller, String source)
+        {
+            this.caller = caller;
+            this.source = source;
+        }
+
+        public boolean equals(Object o)
+        {
+            if (o instanceof ExpressionKey) {
+                ExpressionKey ek = (ExpressionKey) o;
+                return caller == ek.caller && source.equals(ek.source);
+            }
+            return false;
+        }
+
+        public int hashCode()
+        {
+            return System.identityHashCode(caller) * 31 + source.hashCode();
+        }
+    }
+}
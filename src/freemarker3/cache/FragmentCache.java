@@ -0,0 +1,185 @@
+package freemarker3.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import freemarker3.core.StaticText;
+
+/**
+ * Holds the output of <tt>#cache</tt> blocks, so that a block that
+ * was rendered for a key does not have to be rendered again until its
+ * entry expires. The entries are kept in a {@link CacheStorage}, which
+ * is accessed under a lock unless it says it is concurrent, just as
+ * {@link TemplateCache} does.
+ * @see freemarker3.template.Configuration#setFragmentCacheStorage(CacheStorage)
+ */
+public class FragmentCache
+{
+    private final CacheStorage storage;
+    private final boolean isStorageConcurrent;
+    private final ReentrantLock storageLock = new ReentrantLock();
+    private final LongSupplier clock;
+
+    public FragmentCache(CacheStorage storage)
+    {
+        this(storage, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock gives the current time in milliseconds, which entries
+     * expire against. This is only meant to be anything other than
+     * <tt>System::currentTimeMillis</tt> in tests.
+     */
+    public FragmentCache(CacheStorage storage, LongSupplier clock)
+    {
+        if (storage == null) {
+            throw new IllegalArgumentException("storage == null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock == null");
+        }
+        this.storage = storage;
+        this.clock = clock;
+        isStorageConcurrent = storage instanceof ConcurrentCacheStorage &&
+            ((ConcurrentCacheStorage) storage).isConcurrent();
+    }
+
+    /**
+     * @param fragment the block whose output is cached. Blocks are
+     * compared by identity, so a template that is reloaded does not pick
+     * up what was cached for its previous version. They are only weakly
+     * referenced, so the entries of a previous version do not keep its
+     * tree alive either.
+     * @param key the key that the output was cached for
+     * @return the cached output, or null if there is none, or it expired.
+     */
+    public StaticText get(Object fragment, Object key)
+    {
+        FragmentKey fk = new FragmentKey(fragment, key);
+        CachedFragment cached = (CachedFragment) lookup(fk);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expires != 0 && cached.expires <= clock.getAsLong()) {
+            remove(fk);
+            return null;
+        }
+        return cached.text;
+    }
+
+    /**
+     * @param ttl how long the entry is good for, in milliseconds,
+     * or 0 if it doesn't expire, in which case it is kept until the
+     * storage drops it.
+     */
+    public void put(Object fragment, Object key, StaticText text, long ttl)
+    {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl < 0");
+        }
+        long expires = ttl > 0 ? clock.getAsLong() + ttl : 0;
+        CachedFragment cached = new CachedFragment(text, expires);
+        FragmentKey fk = new FragmentKey(fragment, key);
+        if (isStorageConcurrent) {
+            storage.put(fk, cached);
+        }
+        else {
+            storageLock.lock();
+            try {
+                storage.put(fk, cached);
+            }
+            finally {
+                storageLock.unlock();
+            }
+        }
+    }
+
+    public void clear()
+    {
+        storageLock.lock();
+        try {
+            storage.clear();
+        }
+        finally {
+            storageLock.unlock();
+        }
+    }
+
+    private Object lookup(FragmentKey fk)
+    {
+        if (isStorageConcurrent) {
+            return storage.get(fk);
+        }
+        storageLock.lock();
+        try {
+            return storage.get(fk);
+        }
+        finally {
+            storageLock.unlock();
+        }
+    }
+
+    private void remove(FragmentKey fk)
+    {
+        if (isStorageConcurrent) {
+            storage.remove(fk);
+            return;
+        }
+        storageLock.lock();
+        try {
+            storage.remove(fk);
+        }
+        finally {
+            storageLock.unlock();
+        }
+    }
+
+    /**
+     * Once the fragment has been collected, the key no longer equals
+     * any other, and the storage drops the entry in due course.
+     */
+    private static final class FragmentKey
+    {
+        private final WeakReference<Object> fragment;
+        private final Object key;
+        private final int hash;
+
+        FragmentKey(Object fragment, Object key)
+        {
+            this.fragment = new WeakReference<>(fragment);
+            this.key = key;
+            this.hash = System.identityHashCode(fragment) * 31 + key.hashCode();
+        }
+
+        public boolean equals(Object o)
+        {
+            if (o == this) {
+                return true;
+            }
+            if (o instanceof FragmentKey) {
+                FragmentKey fk = (FragmentKey) o;
+                Object f = fragment.get();
+                return f != null && f == fk.fragment.get() && key.equals(fk.key);
+            }
+            return false;
+        }
+
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    private static final class CachedFragment
+    {
+        final StaticText text;
+        final long expires;
+
+        CachedFragment(StaticText text, long expires)
+        {
+            this.text = text;
+            this.expires = expires;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.StringTokenizer;
+import java.util.concurrent.locks.ReentrantLock;
 
 import freemarker3.core.Environment;
 import freemarker3.log.Logger;
@@ -40,10 +41,16 @@ public class TemplateCache
     /** Here we keep our cached templates */
     private final CacheStorage storage;
     private final boolean isStorageConcurrent;
+    /**
+     * Guards a storage that is not concurrent. This is a lock rather than
+     * a monitor, as a virtual thread waiting for a monitor pins its
+     * carrier thread.
+     */
+    private final ReentrantLock storageLock = new ReentrantLock();
     /** The default refresh delay in milliseconds. */
-    private long delay = 5000;
+    private volatile long delay = 5000;
     /** Specifies if localized template lookup is enabled or not */
-    private boolean localizedLookup = true;
+    private volatile boolean localizedLookup = true;
 
     private Configuration config;
 
@@ -201,9 +208,13 @@ public class TemplateCache
             cachedTemplate = (CachedTemplate)storage.get(tk);
         }
         else {
-            synchronized(storage) {
+            storageLock.lock();
+            try {
                 cachedTemplate = (CachedTemplate)storage.get(tk);
             }
+            finally {
+                storageLock.unlock();
+            }
         }
         long now = System.currentTimeMillis();
         long lastModified = -1L;
@@ -352,9 +363,13 @@ public class TemplateCache
             storage.put(tk, cachedTemplate);
         }
         else {
-            synchronized(storage) {
+            storageLock.lock();
+            try {
                 storage.put(tk, cachedTemplate);
             }
+            finally {
+                storageLock.unlock();
+            }
         }
     }
 
@@ -399,7 +414,7 @@ public class TemplateCache
      * template source.
      * @return the current value of the delay
      */
-    public synchronized long getDelay()
+    public long getDelay()
     {
         return delay;
     }
@@ -409,7 +424,7 @@ public class TemplateCache
      * template sources.
      * @param delay the new value of the delay
      */
-    public synchronized void setDelay(long delay)
+    public void setDelay(long delay)
     {
         this.delay = delay;
     }
@@ -418,7 +433,7 @@ public class TemplateCache
      * Returns if localized template lookup is enabled or not.
      * @return true if localized template lookup is enabled, false otherwise.
      */
-    public synchronized boolean getLocalizedLookup()
+    public boolean getLocalizedLookup()
     {
         return localizedLookup;
     }
@@ -428,7 +443,7 @@ public class TemplateCache
      * @param localizedLookup true to enable localized template lookup, false 
      * to disable it.
      */
-    public synchronized void setLocalizedLookup(boolean localizedLookup)
+    public void setLocalizedLookup(boolean localizedLookup)
     {
         this.localizedLookup = localizedLookup;
     }
@@ -440,12 +455,16 @@ public class TemplateCache
      */
     public void clear()
     {
-        synchronized (storage) {
+        storageLock.lock();
+        try {
             storage.clear();
             if(mainLoader instanceof StatefulTemplateLoader) {
                 ((StatefulTemplateLoader)mainLoader).resetState();
             }
         }
+        finally {
+            storageLock.unlock();
+        }
     }
 
     /**
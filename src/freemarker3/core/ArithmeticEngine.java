@@ -1,8 +1,6 @@
 package freemarker3.core;
 
 import java.math.*;
-import java.util.HashMap;
-import java.util.Map;
 
 import freemarker3.template.*;
 
@@ -68,28 +66,56 @@ public abstract class ArithmeticEngine {
      * This is the default arithmetic engine in FreeMarker. It converts every
      * number it receives into {@link BigDecimal}, then operates on these
      * converted {@link BigDecimal}s.
+     * Whole numbers that fit in a long are compared, added, subtracted and
+     * multiplied as longs, as long as that does not overflow, and the result
+     * is the same BigDecimal that the conversion would have given.
      */
     public static class BigDecimalEngine extends ArithmeticEngine {
 
         public int compareNumbers(Number first, Number second) {
+            if (isWholeLong(first) && isWholeLong(second)) {
+                return Long.compare(first.longValue(), second.longValue());
+            }
             BigDecimal left = toBigDecimal(first);
             BigDecimal right = toBigDecimal(second);
             return left.compareTo(right);
         }
     
         public Number add(Number first, Number second) {
+            if (isWholeLong(first) && isWholeLong(second)) {
+                try {
+                    return BigDecimal.valueOf(Math.addExact(first.longValue(), second.longValue()));
+                } catch (ArithmeticException e) {
+                    // overflow, so it is done with BigDecimals below
+                }
+            }
             BigDecimal left = toBigDecimal(first);
             BigDecimal right = toBigDecimal(second);
             return left.add(right);
         }
     
         public Number subtract(Number first, Number second) {
+            if (isWholeLong(first) && isWholeLong(second)) {
+                try {
+                    return BigDecimal.valueOf(Math.subtractExact(first.longValue(), second.longValue()));
+                } catch (ArithmeticException e) {
+                    // overflow, so it is done with BigDecimals below
+                }
+            }
             BigDecimal left = toBigDecimal(first);
             BigDecimal right = toBigDecimal(second);
             return left.subtract(right);
         }
     
         public Number multiply(Number first, Number second) {
+            if (isWholeLong(first) && isWholeLong(second)) {
+                try {
+                    // The scale is 0, so it never exceeds maxScale.
+                    return BigDecimal.valueOf(Math.multiplyExact(first.longValue(), second.longValue()));
+                } catch (ArithmeticException e) {
+                    // overflow, so it is done with BigDecimals below
+                }
+            }
             BigDecimal left = toBigDecimal(first);
             BigDecimal right = toBigDecimal(second);
             BigDecimal result = left.multiply(right);
@@ -150,8 +176,6 @@ public abstract class ArithmeticEngine {
         private static final int BIGINTEGER = 4;
         private static final int BIGDECIMAL = 5;
         
-        private static final Map classCodes = createClassCodesMap();
-        
         public int compareNumbers(Number first, Number second) {
             switch(getCommonClassCode(first, second)) {
                 case INTEGER: {
@@ -401,30 +425,20 @@ public abstract class ArithmeticEngine {
             return optimizeNumberRepresentation(new BigDecimal(s));
         }
         
-        private static Map createClassCodesMap() {
-            Map<Class, Integer> map = new HashMap<Class, Integer>(17);
-            Integer intcode = Integer.valueOf(INTEGER);
-            map.put(Byte.class, intcode);
-            map.put(Short.class, intcode);
-            map.put(Integer.class, intcode);
-            map.put(Long.class, Integer.valueOf(LONG));
-            map.put(Float.class, Integer.valueOf(FLOAT));
-            map.put(Double.class, Integer.valueOf(DOUBLE));
-            map.put(BigInteger.class, Integer.valueOf(BIGINTEGER));
-            map.put(BigDecimal.class, Integer.valueOf(BIGDECIMAL));
-            return map;
-        }
-        
         private static int getClassCode(Number num) {
-            try {
-                return ((Integer)classCodes.get(num.getClass())).intValue();
-            }
-            catch(NullPointerException e) {
-                if(num == null) {
-                    throw new TemplateException("Unknown number type null", Environment.getCurrentEnvironment());
-                }
-                throw new TemplateException("Unknown number type " + num.getClass().getName(), Environment.getCurrentEnvironment());
+            if(num == null) {
+                throw new TemplateException("Unknown number type null", Environment.getCurrentEnvironment());
             }
+            // Only these exact classes are known, with the common ones first.
+            Class<?> c = num.getClass();
+            if (c == Integer.class) return INTEGER;
+            if (c == Long.class) return LONG;
+            if (c == Double.class) return DOUBLE;
+            if (c == BigDecimal.class) return BIGDECIMAL;
+            if (c == Float.class) return FLOAT;
+            if (c == BigInteger.class) return BIGINTEGER;
+            if (c == Short.class || c == Byte.class) return INTEGER;
+            throw new TemplateException("Unknown number type " + c.getName(), Environment.getCurrentEnvironment());
         }
         
         private static int getCommonClassCode(Number num1, Number num2) {
@@ -458,6 +472,23 @@ public abstract class ArithmeticEngine {
         }
     }
 
+    /**
+     * @return whether the number is a whole number that fits in a long,
+     * and would be converted by {@link #toBigDecimal(Number)} to a
+     * BigDecimal with a scale of 0.
+     */
+    private static boolean isWholeLong(Number num) {
+        Class<?> c = num.getClass();
+        if (c == Integer.class || c == Long.class || c == Short.class || c == Byte.class) {
+            return true;
+        }
+        if (c == BigDecimal.class) {
+            BigDecimal bd = (BigDecimal) num;
+            return bd.scale() == 0 && bd.precision() < 19;
+        }
+        return false;
+    }
+
     private static BigDecimal toBigDecimal(Number num) {
         return num instanceof BigDecimal ? (BigDecimal) num : new BigDecimal(num.toString());
     }
@@ -1,8 +1,14 @@
 package freemarker3.core;
 
 /**
- * An exception used to break out of a loop
+ * An exception used to break out of a loop. Since it is only a
+ * control-flow signal, it is a stackless singleton, so throwing it
+ * costs about as much as a return.
  */
 public class BreakException extends RuntimeException {
     public static final BreakException INSTANCE = new BreakException();
+
+    private BreakException() {
+        super(null, null, false, false);
+    }
 }
@@ -0,0 +1,512 @@
+package freemarker3.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A <tt>Writer</tt> that encodes the output straight into a byte buffer
+ * and hands it to a {@link Sink} in large chunks, rather than passing
+ * on every little write. UTF-8, ISO-8859-1 and US-ASCII are encoded by
+ * hand, with a fast path for runs of ASCII characters; other charsets
+ * go through a <tt>CharsetEncoder</tt>. Characters that can't be encoded
+ * are replaced, as with an <tt>OutputStreamWriter</tt>.
+ *
+ * <p>The chunk buffers are pooled, so a writer must be closed to give
+ * its buffer back. Closing the writer flushes it, but does not close the
+ * underlying stream or channel, which belongs to the caller.
+ *
+ * <p>With one of the hand-coded charsets, the writer can be marked, so
+ * that an <tt>#attempt</tt> block writes straight to it. Whatever was
+ * written after the outermost mark is held back from the sink until the
+ * mark is released: the chunk buffer grows to hold it, and past the spill
+ * threshold, it goes to a temporary file.
+ * @see freemarker3.template.Template#process(java.util.Map, OutputStream, Charset)
+ */
+public final class ByteSinkWriter extends Writer implements Markable {
+
+    /**
+     * Where the encoded chunks go. The buffer passed to
+     * {@link #write(ByteBuffer)} is reused once the call returns, so
+     * a sink that holds on to the bytes has to copy them.
+     */
+    public interface Sink {
+        void write(ByteBuffer chunk) throws IOException;
+
+        default void flush() throws IOException {
+        }
+    }
+
+    public static final int CHUNK_SIZE = 8192;
+
+    public static final int DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
+
+    private static final ArrayBlockingQueue<byte[]> pool = new ArrayBlockingQueue<>(64);
+
+    private static final int UTF_8 = 0, ISO_8859_1 = 1, US_ASCII = 2, OTHER = 3;
+
+    private final Sink sink;
+    private final Charset charset;
+    private final int encoding;
+    private CharsetEncoder encoder;
+    private byte[] chunk;
+    private int pos;
+    private char pendingHighSurrogate;
+
+    // The offset in the output of chunk[0]
+    private long chunkStart;
+
+    // Output held back for the marks that have not been released.
+    // Once some of it has been spilled, the rest starts at chunk[0].
+    private int holds;
+    private int holdFrom;
+    private long heldStart;
+    private final byte[] pooledChunk;
+    private int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+    private File spillFile;
+    private RandomAccessFile spill;
+    private long spilled;
+
+    public ByteSinkWriter(Sink sink, Charset charset) {
+        this.sink = sink;
+        this.charset = charset;
+        this.encoding = encodingOf(charset);
+        if (encoding == OTHER) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        byte[] pooled = pool.poll();
+        chunk = pooledChunk = pooled != null ? pooled : new byte[CHUNK_SIZE];
+    }
+
+    private static int encodingOf(Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            return UTF_8;
+        }
+        if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            return ISO_8859_1;
+        }
+        if (charset.equals(StandardCharsets.US_ASCII)) {
+            return US_ASCII;
+        }
+        return OTHER;
+    }
+
+    /**
+     * @return whether the charset is one that the writer encodes by hand.
+     * Text in these can be encoded ahead of time, a run at a time, and
+     * passed to {@link #writeEncoded(byte[], int, int)}. Other charsets
+     * may have a byte order mark or shift states, so the bytes of a run
+     * depend on what was written before it.
+     */
+    public static boolean isEncodedByHand(Charset charset) {
+        return encodingOf(charset) != OTHER;
+    }
+
+    public static ByteSinkWriter to(final OutputStream out, Charset charset) {
+        return new ByteSinkWriter(new Sink() {
+            public void write(ByteBuffer chunk) throws IOException {
+                out.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            }
+
+            public void flush() throws IOException {
+                out.flush();
+            }
+        }, charset);
+    }
+
+    /**
+     * @param channel a channel that blocks until it has written some bytes.
+     * A selectable channel in non-blocking mode is rejected, since writing
+     * to it would spin for as long as it is not ready; use a selector
+     * and {@link #to(OutputStream, Charset)} over a buffer instead.
+     * @throws IllegalArgumentException if the channel is non-blocking
+     */
+    public static ByteSinkWriter to(final WritableByteChannel channel, Charset charset) {
+        checkBlocking(channel);
+        return new ByteSinkWriter(chunk -> {
+            while (chunk.hasRemaining()) {
+                if (channel.write(chunk) == 0) {
+                    // Nothing written: only a non-blocking channel does that.
+                    checkBlocking(channel);
+                }
+            }
+        }, charset);
+    }
+
+    private static void checkBlocking(WritableByteChannel channel) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("The channel must be in blocking mode.");
+        }
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Sets how many bytes of marked output are kept in memory before
+     * the rest goes to a temporary file.
+     */
+    public void setSpillThreshold(int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * @return the mark, or -1 with a charset that goes through a
+     * <tt>CharsetEncoder</tt>, as its state can't be rolled back.
+     */
+    public long mark() throws IOException {
+        ensureOpen();
+        if (encoding == OTHER || pendingHighSurrogate != 0) {
+            return -1;
+        }
+        if (holds++ == 0) {
+            holdFrom = pos;
+            heldStart = chunkStart + pos;
+        }
+        return chunkStart + pos;
+    }
+
+    public void commit(long mark) throws IOException {
+        if (--holds == 0) {
+            release();
+        }
+    }
+
+    public void rollback(long mark) throws IOException {
+        long offset = mark - heldStart;
+        if (offset >= spilled) {
+            pos = holdFrom + (int) (offset - spilled);
+        } else {
+            spill.setLength(offset);
+            spilled = offset;
+            pos = 0;
+            chunkStart = heldStart + spilled;
+        }
+        pendingHighSurrogate = 0;
+        if (--holds == 0) {
+            release();
+        }
+    }
+
+    /**
+     * Sends whatever was spilled on to the sink, and goes back
+     * to the pooled chunk buffer if it had to grow.
+     */
+    private void release() throws IOException {
+        if (spill != null) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(new byte[CHUNK_SIZE]);
+                for (long offset = 0; offset < spilled; ) {
+                    buffer.clear();
+                    int n = spill.getChannel().read(buffer, offset);
+                    buffer.flip();
+                    sink.write(buffer);
+                    offset += n;
+                }
+            } finally {
+                deleteSpill();
+            }
+        }
+        if (chunk != pooledChunk) {
+            if (pos > pooledChunk.length) {
+                sink.write(ByteBuffer.wrap(chunk, 0, pos));
+                chunkStart += pos;
+                pos = 0;
+            } else {
+                System.arraycopy(chunk, 0, pooledChunk, 0, pos);
+            }
+            chunk = pooledChunk;
+        }
+    }
+
+    private void deleteSpill() throws IOException {
+        spilled = 0;
+        try {
+            spill.close();
+        } finally {
+            spill = null;
+            spillFile.delete();
+            spillFile = null;
+        }
+    }
+
+    /**
+     * Writes bytes that are already in this writer's charset, for
+     * instance static text that was encoded ahead of time. Unless the
+     * charset is {@link #isEncodedByHand(Charset) encoded by hand},
+     * the bytes must leave the encoder in its initial state.
+     */
+    public void writeEncoded(byte[] bytes, int off, int len) throws IOException {
+        ensureOpen();
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            putReplacement();
+        }
+        if (len >= chunk.length && holds == 0) {
+            emitChunk();
+            sink.write(ByteBuffer.wrap(bytes, off, len));
+            chunkStart += len;
+            return;
+        }
+        while (len > 0) {
+            int n = Math.min(len, chunk.length - pos);
+            System.arraycopy(bytes, off, chunk, pos, n);
+            pos += n;
+            off += n;
+            len -= n;
+            if (pos == chunk.length) {
+                emitChunk();
+            }
+        }
+    }
+
+    public void write(int c) throws IOException {
+        ensureOpen();
+        encode((char) c);
+    }
+
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        if (encoding == OTHER) {
+            encodeOther(CharBuffer.wrap(str, off, off + len));
+            return;
+        }
+        int end = off + len;
+        int i = off;
+        while (i < end) {
+            // The fast path: a run of ASCII, as far as the chunk goes.
+            if (pendingHighSurrogate == 0) {
+                int limit = Math.min(end, i + chunk.length - pos);
+                char c;
+                while (i < limit && (c = str.charAt(i)) < 0x80) {
+                    chunk[pos++] = (byte) c;
+                    i++;
+                }
+                if (pos == chunk.length) {
+                    emitChunk();
+                }
+                if (i == end) {
+                    break;
+                }
+            }
+            encode(str.charAt(i++));
+        }
+    }
+
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        if (encoding == OTHER) {
+            encodeOther(CharBuffer.wrap(cbuf, off, len));
+            return;
+        }
+        int end = off + len;
+        int i = off;
+        while (i < end) {
+            if (pendingHighSurrogate == 0) {
+                int limit = Math.min(end, i + chunk.length - pos);
+                char c;
+                while (i < limit && (c = cbuf[i]) < 0x80) {
+                    chunk[pos++] = (byte) c;
+                    i++;
+                }
+                if (pos == chunk.length) {
+                    emitChunk();
+                }
+                if (i == end) {
+                    break;
+                }
+            }
+            encode(cbuf[i++]);
+        }
+    }
+
+    private void encode(char c) throws IOException {
+        if (encoding == OTHER) {
+            encodeOther(CharBuffer.wrap(new char[] {c}));
+            return;
+        }
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                if (encoding == UTF_8) {
+                    putCodePoint(Character.toCodePoint(high, c));
+                } else {
+                    put((byte) '?');
+                }
+                return;
+            }
+            put((byte) '?');
+        }
+        if (c < 0x80) {
+            put((byte) c);
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            put((byte) '?');
+        } else if (encoding == UTF_8) {
+            putCodePoint(c);
+        } else if (encoding == ISO_8859_1 && c < 0x100) {
+            put((byte) c);
+        } else {
+            put((byte) '?');
+        }
+    }
+
+    private void putCodePoint(int cp) throws IOException {
+        if (cp < 0x800) {
+            put((byte) (0xC0 | (cp >> 6)));
+        } else if (cp < 0x10000) {
+            put((byte) (0xE0 | (cp >> 12)));
+            put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+        } else {
+            put((byte) (0xF0 | (cp >> 18)));
+            put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+            put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+        }
+        put((byte) (0x80 | (cp & 0x3F)));
+    }
+
+    private void encodeOther(CharBuffer in) throws IOException {
+        if (pendingHighSurrogate != 0 && in.hasRemaining()) {
+            char[] pair = {pendingHighSurrogate, in.get()};
+            pendingHighSurrogate = 0;
+            encodeOther(CharBuffer.wrap(pair));
+            if (pendingHighSurrogate != 0) {
+                // The second char was a high surrogate as well,
+                // so it starts over with the rest of the input.
+                pendingHighSurrogate = 0;
+                in.position(in.position() - 1);
+            }
+        }
+        while (true) {
+            ByteBuffer out = ByteBuffer.wrap(chunk, pos, chunk.length - pos);
+            CoderResult result = encoder.encode(in, out, false);
+            pos = out.position();
+            if (result.isOverflow()) {
+                emitChunk();
+            } else {
+                break;
+            }
+        }
+        // The encoder leaves a trailing high surrogate in the input,
+        // as the low one may come with the next write.
+        if (in.hasRemaining()) {
+            pendingHighSurrogate = in.get();
+        }
+    }
+
+    private void put(byte b) throws IOException {
+        if (pos == chunk.length) {
+            emitChunk();
+        }
+        chunk[pos++] = b;
+    }
+
+    private void putReplacement() throws IOException {
+        if (encoder == null) {
+            put((byte) '?');
+        } else {
+            for (byte b : encoder.replacement()) {
+                put(b);
+            }
+        }
+    }
+
+    /**
+     * Passes the chunk on to the sink, or if it is (partly) held back,
+     * makes room in it by passing on what comes before the outermost mark
+     * and growing or spilling the rest.
+     */
+    private void emitChunk() throws IOException {
+        if (holds == 0) {
+            if (pos > 0) {
+                sink.write(ByteBuffer.wrap(chunk, 0, pos));
+                chunkStart += pos;
+                pos = 0;
+            }
+            return;
+        }
+        if (holdFrom > 0) {
+            sink.write(ByteBuffer.wrap(chunk, 0, holdFrom));
+            System.arraycopy(chunk, holdFrom, chunk, 0, pos - holdFrom);
+            chunkStart += holdFrom;
+            pos -= holdFrom;
+            holdFrom = 0;
+        }
+        if (pos < chunk.length) {
+            return;
+        }
+        if (chunk.length < spillThreshold) {
+            chunk = Arrays.copyOf(chunk, Math.min(chunk.length * 2, Math.max(spillThreshold, chunk.length + 1)));
+        } else {
+            if (spill == null) {
+                spillFile = File.createTempFile("freemarker", ".out");
+                spill = new RandomAccessFile(spillFile, "rw");
+            }
+            spill.seek(spilled);
+            spill.write(chunk, 0, pos);
+            spilled += pos;
+            chunkStart += pos;
+            pos = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (chunk == null) {
+            throw new IOException("Writer closed");
+        }
+    }
+
+    /**
+     * Passes whatever has been written so far to the sink, and
+     * flushes the sink.
+     */
+    public void flush() throws IOException {
+        ensureOpen();
+        emitChunk();
+        sink.flush();
+    }
+
+    public void close() throws IOException {
+        if (chunk == null) {
+            return;
+        }
+        try {
+            if (pendingHighSurrogate != 0) {
+                pendingHighSurrogate = 0;
+                putReplacement();
+            }
+            if (encoder != null) {
+                ByteBuffer out = ByteBuffer.allocate(16);
+                encoder.encode(CharBuffer.allocate(0), out, true);
+                encoder.flush(out);
+                out.flip();
+                writeEncoded(out.array(), 0, out.limit());
+            }
+            flush();
+        } finally {
+            if (spill != null) {
+                deleteSpill();
+            }
+            pool.offer(pooledChunk);
+            chunk = null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package freemarker3.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A growable character buffer that output is captured into, for instance
+ * the body of an <tt>#attempt</tt> or of a block assignment. Unlike a
+ * <tt>StringWriter</tt> it does no locking, and it can be reset and used
+ * again, so the {@link Environment} keeps the buffers it has handed out
+ * for the next capture. It can be marked, so an <tt>#attempt</tt> within
+ * a capture writes straight into it.
+ * @see Environment#borrowBuffer()
+ */
+public final class CaptureBuffer extends Writer implements Markable {
+
+    private char[] chars;
+    private int length;
+
+    CaptureBuffer() {
+        chars = new char[256];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+
+    public void write(int c) {
+        ensureCapacity(length + 1);
+        chars[length++] = (char) c;
+    }
+
+    public void write(char[] cbuf, int off, int len) {
+        ensureCapacity(length + len);
+        System.arraycopy(cbuf, off, chars, length, len);
+        length += len;
+    }
+
+    public void write(String str, int off, int len) {
+        ensureCapacity(length + len);
+        str.getChars(off, off + len, chars, length);
+        length += len;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return the backing array, grown to at least the given capacity,
+     * for use as scratch space. Anything written so far is kept.
+     */
+    public char[] array(int capacity) {
+        ensureCapacity(capacity);
+        return chars;
+    }
+
+    int capacity() {
+        return chars.length;
+    }
+
+    /**
+     * Writes the captured text to the given writer.
+     */
+    public void writeTo(Writer out) throws IOException {
+        out.write(chars, 0, length);
+    }
+
+    public void reset() {
+        length = 0;
+    }
+
+    public long mark() {
+        return length;
+    }
+
+    public void commit(long mark) {
+    }
+
+    public void rollback(long mark) {
+        length = (int) mark;
+    }
+
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    public void flush() {
+    }
+
+    public void close() {
+    }
+}
@@ -0,0 +1,171 @@
+package freemarker3.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import freemarker3.core.nodes.generated.Block;
+import freemarker3.core.nodes.generated.ConditionalBlock;
+import freemarker3.core.nodes.generated.Expression;
+import freemarker3.core.nodes.generated.IfBlock;
+import freemarker3.core.nodes.generated.Interpolation;
+import freemarker3.core.nodes.generated.Macro;
+import freemarker3.core.nodes.generated.TemplateElement;
+import freemarker3.core.nodes.generated.TextElement;
+import freemarker3.core.parser.Node;
+
+/**
+ * A {@link Block} lowered to a flat array of instructions. Everything
+ * the interpreter looks up in the tree on every execution is looked up
+ * once, when the block is compiled:
+ * <ul>
+ * <li>Runs of static text are coalesced into a single write, and do
+ * not go through the environment at all.</li>
+ * <li>An interpolation writes its (escaped) expression directly.</li>
+ * <li>An if-else evaluates an array of conditions and runs the
+ * chosen block directly.</li>
+ * <li>For every element, whether it opens a new scope is decided here
+ * rather than by searching its children for a nested block.</li>
+ * </ul>
+ * Instructions run through {@link Environment#run(TemplateElement, Block, Instruction)},
+ * so the instruction stack, scoping and error handling are exactly
+ * those of the tree-walking interpreter.
+ *
+ * <p>Instances are immutable, and all their state is reachable through
+ * final fields, so they can be shared freely between threads.
+ * @see freemarker3.template.Template#compile()
+ */
+public final class CompiledBlock {
+
+    /**
+     * A single step of a compiled block.
+     */
+    @FunctionalInterface
+    public interface Instruction {
+        void execute(Environment env) throws IOException;
+    }
+
+    private final Instruction[] instructions;
+
+    private CompiledBlock(Instruction[] instructions) {
+        this.instructions = instructions;
+    }
+
+    /**
+     * Compiles the direct children of the given block. Nested blocks
+     * are compiled separately.
+     */
+    public static CompiledBlock compile(Block block) {
+        List<Instruction> result = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (TemplateElement element : block.getElements()) {
+            if (element instanceof TextElement) {
+                text.append(((TextElement) element).getOutputText());
+                continue;
+            }
+            if (text.length() > 0) {
+                result.add(textInstruction(text.toString()));
+                text.setLength(0);
+            }
+            result.add(instructionFor(element));
+        }
+        if (text.length() > 0) {
+            result.add(textInstruction(text.toString()));
+        }
+        return new CompiledBlock(result.toArray(new Instruction[result.size()]));
+    }
+
+    /**
+     * Compiles every block in the given subtree, including the root
+     * itself if it is a block. All the compiled forms are built before
+     * any of them is installed, so a render running concurrently either
+     * sees the interpreted tree or (block by block) an equivalent
+     * compiled one, never a half-built program.
+     */
+    public static void compileTree(Node root) {
+        List<Block> blocks = root.descendants(Block.class);
+        if (root instanceof Block) {
+            blocks.add((Block) root);
+        }
+        List<CompiledBlock> compiled = new ArrayList<>(blocks.size());
+        for (Block block : blocks) {
+            compiled.add(compile(block));
+        }
+        for (int i = 0; i < blocks.size(); i++) {
+            blocks.get(i).setCompiledForm(compiled.get(i));
+        }
+    }
+
+    private static Instruction textInstruction(String text) {
+        StaticText staticText = new StaticText(text);
+        return env -> staticText.write(env.getOut());
+    }
+
+    private static Instruction instructionFor(TemplateElement element) {
+        if (element instanceof Interpolation) {
+            Expression exp = ((Interpolation) element).getEscapedExpression();
+            Instruction write = env -> exp.writeValue(env, env.getOut());
+            return env -> env.run(element, null, write);
+        }
+        if (element instanceof IfBlock) {
+            return ifInstruction((IfBlock) element);
+        }
+        Block scopedBlock = scopedBlock(element);
+        Instruction execute = element::execute;
+        return env -> env.run(element, scopedBlock, execute);
+    }
+
+    private static Instruction ifInstruction(IfBlock ifBlock) {
+        List<ConditionalBlock> cblocks = ifBlock.childrenOfType(ConditionalBlock.class);
+        int count = cblocks.size();
+        Expression[] conditions = new Expression[count];
+        Instruction[] branches = new Instruction[count];
+        for (int i = 0; i < count; i++) {
+            ConditionalBlock cblock = cblocks.get(i);
+            conditions[i] = cblock.getCondition();
+            Block block = cblock.firstChildOfType(Block.class);
+            if (block != null) {
+                // The interpreter renders the conditional block, which
+                // renders its block; both go on the instruction stack.
+                Block scopedBlock = scopedBlock(block);
+                Instruction executeBlock = block::execute;
+                Instruction runBlock = env -> env.run(block, scopedBlock, executeBlock);
+                Block cblockScope = scopedBlock(cblock);
+                branches[i] = env -> env.run(cblock, cblockScope, runBlock);
+            }
+        }
+        Instruction choose = env -> {
+            for (int i = 0; i < count; i++) {
+                Expression condition = conditions[i];
+                if (condition == null || condition.isTrue(env)) {
+                    if (branches[i] != null) {
+                        branches[i].execute(env);
+                    }
+                    return;
+                }
+            }
+        };
+        return env -> env.run(ifBlock, null, choose);
+    }
+
+    /**
+     * @return the block that {@link Environment#render(TemplateElement)}
+     * would open a new scope for when rendering the element, or null
+     */
+    private static Block scopedBlock(TemplateElement element) {
+        Block nestedBlock = element.getNestedBlock();
+        if (nestedBlock != null
+                && !nestedBlock.isTemplateRoot()
+                && !(nestedBlock.getParent() instanceof Macro)
+                && nestedBlock.createsScope()) {
+            return nestedBlock;
+        }
+        return null;
+    }
+
+    public void execute(Environment env) throws IOException {
+        for (Instruction instruction : instructions) {
+            instruction.execute(env);
+        }
+    }
+}
@@ -110,6 +110,29 @@ abstract public class Configurable {
     public OutputFormat getOutputFormat() {
         return this.outputFormat;
     }
+
+    /**
+     * Copies the settings made on the other object, but not the ones it
+     * inherits from its fallback, to this one.
+     */
+    protected void copySettingsFrom(Configurable other) {
+        properties = (Properties) other.properties.clone();
+        locale = other.locale;
+        numberFormat = other.numberFormat;
+        timeFormat = other.timeFormat;
+        dateFormat = other.dateFormat;
+        dateTimeFormat = other.dateTimeFormat;
+        timeZone = other.timeZone;
+        trueFormat = other.trueFormat;
+        falseFormat = other.falseFormat;
+        templateExceptionHandler = other.templateExceptionHandler;
+        arithmeticEngine = other.arithmeticEngine;
+        outputEncoding = other.outputEncoding;
+        outputEncodingSet = other.outputEncodingSet;
+        urlEscapingCharset = other.urlEscapingCharset;
+        urlEscapingCharsetSet = other.urlEscapingCharsetSet;
+        outputFormat = other.outputFormat;
+    }
     
     /**
      * Returns the fallback <tt>Configurable</tt> object of this object.
@@ -1,8 +1,8 @@
 package freemarker3.core;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.text.Collator;
 import java.text.DateFormat;
@@ -11,16 +11,26 @@ import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import freemarker3.core.nodes.generated.ArgsList;
 import freemarker3.core.nodes.generated.Block;
+import freemarker3.core.nodes.generated.FallbackInstruction;
+import freemarker3.core.nodes.generated.ImportDeclaration;
 import freemarker3.core.nodes.generated.IncludeInstruction;
 import freemarker3.core.nodes.generated.Macro;
 import freemarker3.core.nodes.generated.NestedInstruction;
 import freemarker3.core.nodes.generated.PositionalArgsList;
+import freemarker3.core.nodes.generated.RecurseNode;
 import freemarker3.core.nodes.ParameterList;
 import freemarker3.core.nodes.generated.TemplateElement;
 import freemarker3.core.nodes.generated.UnifiedCall;
+import freemarker3.core.nodes.generated.VisitNode;
+import freemarker3.core.parser.Node;
 import freemarker3.log.Logger;
 import freemarker3.core.variables.*;
 import freemarker3.core.variables.scope.*;
@@ -51,14 +61,14 @@ import static freemarker3.core.variables.Wrap.*;
  */
 @SuppressWarnings("rawtypes")
 public final class Environment extends Configurable implements Scope {
-    private static final ThreadLocal<Environment> threadEnv = new ThreadLocal<Environment>();
+    private static volatile Binding binding = new ThreadLocalBinding();
 
     static final Logger logger = Logger.getLogger("freemarker3.runtime");
     private static final Logger attemptLogger = Logger.getLogger("freemarker3.runtime.attempt");
 
-    private static final Map<NumberFormatKey, NumberFormat> localizedNumberFormats = new HashMap<NumberFormatKey, NumberFormat>();
+    private static final ConcurrentMap<NumberFormatKey, NumberFormat> localizedNumberFormats = new ConcurrentHashMap<NumberFormatKey, NumberFormat>();
 
-    private static final Map<DateFormatKey, DateFormat> localizedDateFormats = new HashMap<DateFormatKey, DateFormat>();
+    private static final ConcurrentMap<DateFormatKey, DateFormat> localizedDateFormats = new ConcurrentHashMap<DateFormatKey, DateFormat>();
 
     // Do not use this object directly; clone it first! DecimalFormat isn't
     // thread-safe.
@@ -74,10 +84,16 @@ public final class Environment extends Configurable implements Scope {
 
     private final List<TemplateElement> elementStack = new ArrayList<TemplateElement>();
 
+    private final boolean lazyInstructionStack;
+
     private final List<String> recoveredErrorStack = new ArrayList<String>();
 
     private NumberFormat numberFormat;
 
+    private IntegerFormat integerFormat;
+
+    private char[] charBuffer;
+
     private Map<String, NumberFormat> numberFormats;
 
     private DateFormat timeFormat, dateFormat, dateTimeFormat;
@@ -106,6 +122,8 @@ public final class Environment extends Configurable implements Scope {
 
     private Throwable lastThrowable;
 
+    private boolean parallelFork;
+
     private Object lastReturnValue;
 
     private WrappedNode currentVisitorNode;
@@ -121,6 +139,13 @@ public final class Environment extends Configurable implements Scope {
 
     private boolean urlEscapingCharsetCached;
 
+    private static final int MAX_POOLED_BUFFERS = 8;
+
+    // Buffers bigger than this are left to the garbage collector.
+    private static final int MAX_POOLED_BUFFER_CAPACITY = 64 * 1024;
+
+    private final ArrayList<CaptureBuffer> bufferPool = new ArrayList<>();
+
     /**
      * Retrieves the environment object associated with the current thread. Data
      * model implementations that need access to the environment can call this
@@ -128,7 +153,61 @@ public final class Environment extends Configurable implements Scope {
      * processing that is currently running on the current thread.
      */
     public static Environment getCurrentEnvironment() {
-        return threadEnv.get();
+        return binding.current();
+    }
+
+    /**
+     * Carries the environment of the render in progress, so that
+     * {@link #getCurrentEnvironment()} can find it. The default binding
+     * uses a <tt>ThreadLocal</tt>. On a JVM that has them, a binding
+     * backed by a <tt>ScopedValue</tt> is cheaper to set up for each
+     * render and is inherited by structured subtasks, which suits
+     * running many renders on virtual threads.
+     */
+    public interface Binding {
+        /**
+         * @return the current environment, or null if none.
+         */
+        Environment current();
+
+        /**
+         * Runs the action with the given environment as the current one,
+         * and restores the previous one (if any) afterwards.
+         */
+        <T> T call(Environment env, TemplateRunnable<T> action) throws IOException;
+    }
+
+    private static final class ThreadLocalBinding implements Binding {
+        private final ThreadLocal<Environment> threadEnv = new ThreadLocal<Environment>();
+
+        public Environment current() {
+            return threadEnv.get();
+        }
+
+        public <T> T call(Environment env, TemplateRunnable<T> action) throws IOException {
+            Environment savedEnv = threadEnv.get();
+            threadEnv.set(env);
+            try {
+                return action.run();
+            } finally {
+                if (savedEnv == null) {
+                    threadEnv.remove();
+                } else {
+                    threadEnv.set(savedEnv);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets how the current environment is carried. This should be done
+     * once, at startup, before any template is processed.
+     */
+    public static void setBinding(Binding binding) {
+        if (binding == null) {
+            throw new IllegalArgumentException("binding can't be null");
+        }
+        Environment.binding = binding;
     }
 
     public Environment(Template template, Map<String,Object> rootDataModel, Writer out) {
@@ -136,9 +215,39 @@ public final class Environment extends Configurable implements Scope {
         this.currentScope = mainNamespace = new BlockScope(template.getRootElement(), this);
         this.out = out;
         this.rootDataModel = rootDataModel;
+        this.lazyInstructionStack = template.getConfiguration().getLazyInstructionStack();
         importMacros(template);
     }
 
+    /**
+     * Creates an environment that renders some iterations of a parallel
+     * loop into its own buffer. It has its own settings, stacks and
+     * macro contexts, and shares everything else with its parent, which
+     * the body of the loop only reads.
+     */
+    private Environment(Environment parent, Writer out) {
+        super(parent.getFallback());
+        copySettingsFrom(parent);
+        this.rootDataModel = parent.rootDataModel;
+        this.lazyInstructionStack = parent.lazyInstructionStack;
+        this.out = out;
+        this.mainNamespace = parent.mainNamespace;
+        this.currentScope = parent.currentScope;
+        this.currentMacroContext = parent.currentMacroContext;
+        this.macroContextLookup = new HashMap<>(parent.macroContextLookup);
+        this.macroToNamespaceLookup = parent.macroToNamespaceLookup;
+        this.globalVariables = parent.globalVariables;
+        this.loadedLibs = parent.loadedLibs;
+        this.currentVisitorNode = parent.currentVisitorNode;
+        this.nodeNamespaces = parent.nodeNamespaces;
+        this.nodeNamespaceIndex = parent.nodeNamespaceIndex;
+        this.currentNodeName = parent.currentNodeName;
+        this.currentNodeNS = parent.currentNodeNS;
+        this.elementStack.addAll(parent.elementStack);
+        this.recoveredErrorStack.addAll(parent.recoveredErrorStack);
+        this.parallelFork = true;
+    }
+
     public void setCurrentScope(Scope scope) {
         this.currentScope = scope;
     }
@@ -158,43 +267,90 @@ public final class Environment extends Configurable implements Scope {
      * Processes the template to which this environment belongs.
      */
     public void process() throws IOException {
-        Environment savedEnv = threadEnv.get();
-        threadEnv.set(this);
-        try {
+        binding.call(this, () -> {
             doAutoImportsAndIncludes(this);
             Template template = getTemplate();
+            template.recordExecution();
             render(template.getRootElement());
             // Do not flush if there was an exception.
             out.flush();
-        } finally {
-            threadEnv.set(savedEnv);
-        }
+            return null;
+        });
     }
 
     /**
      * "Visit" the template element.
      */
     public void render(TemplateElement element) throws IOException {
-        pushElement(element);
         Block nestedBlock = element.getNestedBlock();
         boolean createNewScope = nestedBlock != null 
                                  && !nestedBlock.isTemplateRoot()
                                  && !(nestedBlock.getParent() instanceof Macro)
                                  && nestedBlock.createsScope();
-        Scope prevScope = currentScope;
-        if (createNewScope) {
-            currentScope = new BlockScope(nestedBlock, currentScope);
+        render(element, createNewScope ? new BlockScope(nestedBlock, currentScope) : currentScope);
+    }
+
+    /**
+     * "Visit" the template element, using the given scope 
+     * as the current scope.
+     */
+    private void render(TemplateElement element, Scope scope) throws IOException {
+        render(element, scope, null);
+    }
+
+    /**
+     * Runs one instruction of a {@link CompiledBlock} on behalf of the
+     * given element, with the same instruction stack, scoping and error
+     * handling as {@link #render(TemplateElement)}. The difference is that
+     * the block to open a scope for was worked out when the block was
+     * compiled, rather than looked up in the tree on every call.
+     *
+     * @param scopedBlock the block to open a new scope for, or null to
+     * run the instruction in the current scope
+     */
+    public void run(TemplateElement element, Block scopedBlock, CompiledBlock.Instruction instruction) throws IOException {
+        render(element, scopedBlock == null ? currentScope : new BlockScope(scopedBlock, currentScope), instruction);
+    }
+
+    private void render(TemplateElement element, Scope scope, CompiledBlock.Instruction instruction) throws IOException {
+        boolean pushed = !lazyInstructionStack || isCallSite(element);
+        if (pushed) {
+            pushElement(element);
         }
+        Scope prevScope = currentScope;
+        currentScope = scope;
         try {
-            element.execute(this);
+            if (instruction == null) {
+                element.execute(this);
+            } else {
+                instruction.execute(this);
+            }
         } catch (TemplateException te) {
-            handleTemplateException(te);
+            handleTemplateException(te, element);
         } finally {
-            popElement();
+            if (pushed) {
+                popElement();
+            }
             currentScope = prevScope;
         }
     }
 
+    /**
+     * @return whether the element can transfer control outside of its
+     * own lexical context, so that its parents do not tell us how we got
+     * to where we are. In the lazy instruction stack mode, these are the
+     * only elements that are recorded.
+     */
+    private static boolean isCallSite(TemplateElement element) {
+        return element instanceof UnifiedCall
+                || element instanceof NestedInstruction
+                || element instanceof IncludeInstruction
+                || element instanceof ImportDeclaration
+                || element instanceof VisitNode
+                || element instanceof RecurseNode
+                || element instanceof FallbackInstruction;
+    }
+
     private static final Object[] NO_OUT_ARGS = new Object[0];
 
     public void render(Block block, UserDirective directive, Map<String, Object> args, final List<String> bodyParameterNames) throws IOException {
@@ -226,33 +382,80 @@ public final class Environment extends Configurable implements Scope {
     }
 
     /**
-     * Visit a block using buffering/recovery
+     * Visit a block using buffering/recovery. If the output is
+     * {@link Markable}, the attempt block writes straight to it, and
+     * what it wrote is rolled back if it fails. Otherwise it is rendered
+     * into a buffer, which is copied to the output if it succeeds.
      */
     public void render(Block attemptBlock, Block recoveryBlock) throws IOException {
+        Markable target = out instanceof Markable ? (Markable) out : null;
+        long mark = target != null ? target.mark() : -1;
+        TemplateException thrownException = mark >= 0 
+                                            ? attemptInPlace(attemptBlock, target, mark) 
+                                            : attemptBuffered(attemptBlock);
+        if (thrownException == null) {
+            return;
+        }
+        if (attemptLogger.isDebugEnabled()) {
+            logger.debug("Error in attempt block " +
+                    attemptBlock.getLocation(), thrownException);
+        }
+        try {
+            recoveredErrorStack.add(thrownException.getMessage());
+            render(recoveryBlock);
+        } finally {
+            recoveredErrorStack.remove(recoveredErrorStack.size() - 1);
+        }
+    }
+
+    private TemplateException attemptInPlace(Block attemptBlock, Markable target, long mark) throws IOException {
+        boolean committed = false;
+        try {
+            render(attemptBlock);
+            committed = true;
+            target.commit(mark);
+            return null;
+        } catch (TemplateException te) {
+            return te;
+        } finally {
+            if (!committed) {
+                target.rollback(mark);
+            }
+        }
+    }
+
+    private TemplateException attemptBuffered(Block attemptBlock) throws IOException {
         Writer prevOut = this.out;
-        StringWriter sw = new StringWriter();
-        this.out = sw;
-        TemplateException thrownException = null;
+        CaptureBuffer buffer = borrowBuffer();
+        this.out = buffer;
         try {
             render(attemptBlock);
+            buffer.writeTo(prevOut);
         } catch (TemplateException te) {
-            thrownException = te;
+            return te;
         } finally {
             this.out = prevOut;
+            returnBuffer(buffer);
         }
-        if (thrownException != null) {
-            if (attemptLogger.isDebugEnabled()) {
-                logger.debug("Error in attempt block " +
-                        attemptBlock.getLocation(), thrownException);
-            }
-            try {
-                recoveredErrorStack.add(thrownException.getMessage());
-                render(recoveryBlock);
-            } finally {
-                recoveredErrorStack.remove(recoveredErrorStack.size() - 1);
-            }
-        } else {
-            out.write(sw.toString());
+        return null;
+    }
+
+    /**
+     * Hands out an empty buffer to capture output in. Buffers are
+     * reused, so the caller has to give it back with
+     * {@link #returnBuffer(CaptureBuffer)} once it is done with the
+     * content, and must not touch it after that. A capture within
+     * a capture just borrows another buffer.
+     */
+    public CaptureBuffer borrowBuffer() {
+        int size = bufferPool.size();
+        return size == 0 ? new CaptureBuffer() : bufferPool.remove(size - 1);
+    }
+
+    public void returnBuffer(CaptureBuffer buffer) {
+        if (bufferPool.size() < MAX_POOLED_BUFFERS && buffer.capacity() <= MAX_POOLED_BUFFER_CAPACITY) {
+            buffer.reset();
+            bufferPool.add(buffer);
         }
     }
 
@@ -299,17 +502,50 @@ public final class Environment extends Configurable implements Scope {
      * the given variable name for the loop variable.
      */
     public void process(Iterator<?> it, Block block, String loopVarName) throws IOException {
+        process(it, block, loopVarName, LoopContext.EXPOSE_ALL);
+    }
+
+    /**
+     * Loop over a block, using the iterator passed in and
+     * the given variable name for the loop variable. The flags
+     * (see {@link LoopContext}) say which of the <tt>_has_next</tt> and
+     * <tt>_index</tt> variables the block can see, and whether a
+     * single frame can be reused for all the iterations. The values of a
+     * {@link PrimitiveIterator}, such as one over an <tt>int[]</tt>, are
+     * taken with <tt>nextInt()</tt> and the like, and being numbers,
+     * go to the loop variable's slot without being wrapped.
+     */
+    public void process(Iterator<?> it, Block block, String loopVarName, int flags) throws IOException {
         Scope prevScope = currentScope;
+        LoopContext loop = new LoopContext(block, prevScope, flags, loopVarName);
         int index = 0;
-        String hasNextName = loopVarName + "_has_next";
-        String indexName = loopVarName + "_index";
         try {
-            while (it.hasNext()) {
-                currentScope = new BlockScope(block, prevScope);
-                currentScope.put(loopVarName, wrap(it.next()));
-                currentScope.put(hasNextName, it.hasNext());
-                currentScope.put(indexName, index++);
-                render(block);
+            if (it instanceof PrimitiveIterator.OfInt) {
+                PrimitiveIterator.OfInt ints = (PrimitiveIterator.OfInt) it;
+                while (ints.hasNext()) {
+                    int value = ints.nextInt();
+                    render(block, loop.nextNumber(value, index++, ints.hasNext()));
+                }
+            }
+            else if (it instanceof PrimitiveIterator.OfLong) {
+                PrimitiveIterator.OfLong longs = (PrimitiveIterator.OfLong) it;
+                while (longs.hasNext()) {
+                    long value = longs.nextLong();
+                    render(block, loop.nextNumber(value, index++, longs.hasNext()));
+                }
+            }
+            else if (it instanceof PrimitiveIterator.OfDouble) {
+                PrimitiveIterator.OfDouble doubles = (PrimitiveIterator.OfDouble) it;
+                while (doubles.hasNext()) {
+                    double value = doubles.nextDouble();
+                    render(block, loop.nextNumber(value, index++, doubles.hasNext()));
+                }
+            }
+            else {
+                while (it.hasNext()) {
+                    Object value = it.next();
+                    render(block, loop.next(value, index++, it.hasNext()));
+                }
             }
         } catch (BreakException br) {
         } catch (TemplateException te) {
@@ -319,7 +555,99 @@ public final class Environment extends Configurable implements Scope {
         }
     }
 
+    /**
+     * Loop over a block by index. This is used for random access lists
+     * and saves allocating an iterator.
+     */
+    public void process(List<?> list, Block block, String loopVarName, int flags) throws IOException {
+        process(list, 0, list.size(), block, loopVarName, flags);
+    }
+
+    private void process(List<?> list, int from, int to, Block block, String loopVarName, int flags) throws IOException {
+        Scope prevScope = currentScope;
+        LoopContext loop = new LoopContext(block, prevScope, flags, loopVarName);
+        int size = list.size();
+        try {
+            for (int index = from; index < to; index++) {
+                render(block, loop.next(list.get(index), index, index + 1 < size));
+            }
+        } catch (BreakException br) {
+        } catch (TemplateException te) {
+            handleTemplateException(te);
+        } finally {
+            currentScope = prevScope;
+        }
+    }
+
+    /**
+     * Loop over a block by index, rendering runs of <tt>chunkSize</tt>
+     * iterations concurrently on the configuration's
+     * {@link Configuration#getParallelListPool() parallel list pool}.
+     * Each run is rendered by an environment of its own into a buffer,
+     * and the buffers are written out in order, so the output is that of
+     * the sequential loop as long as the block changes nothing outside of
+     * itself. For the <tt>parallel</tt> option of <tt>#list</tt>, the
+     * parser checks that it doesn't.
+     */
+    public void processInParallel(List<?> list, Block block, String loopVarName, int flags, int chunkSize) throws IOException {
+        int size = list.size();
+        if (size <= chunkSize) {
+            process(list, 0, size, block, loopVarName, flags);
+            return;
+        }
+        ForkJoinPool pool = getConfiguration().getParallelListPool();
+        List<Future<CaptureBuffer>> chunks = new ArrayList<>();
+        try {
+            for (int from = 0; from < size; from += chunkSize) {
+                int start = from;
+                int end = size - from > chunkSize ? from + chunkSize : size;
+                chunks.add(pool.submit(() -> renderChunk(list, start, end, block, loopVarName, flags)));
+            }
+            for (Future<CaptureBuffer> chunk : chunks) {
+                chunk.get().writeTo(out);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a parallel loop");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TemplateException) {
+                // It has already been through the handler.
+                lastThrowable = cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TemplateException((Exception) cause, this);
+        } finally {
+            // A no-op unless a chunk failed
+            for (Future<CaptureBuffer> chunk : chunks) {
+                chunk.cancel(false);
+            }
+        }
+    }
+
+    private CaptureBuffer renderChunk(List<?> list, int from, int to, Block block, String loopVarName, int flags) throws IOException {
+        CaptureBuffer buffer = new CaptureBuffer();
+        Environment fork = new Environment(this, buffer);
+        binding.call(fork, () -> {
+            fork.process(list, from, to, block, loopVarName, flags);
+            return null;
+        });
+        return buffer;
+    }
+
     public void process(Object mapOrHash, Block block, String keyName, String valueName) throws IOException {
+        process(mapOrHash, block, keyName, valueName, LoopContext.EXPOSE_ALL);
+    }
+
+    public void process(Object mapOrHash, Block block, String keyName, String valueName, int flags) throws IOException {
         Iterator it = null;
         TemplateHashModel hash = null;
         Map map = null;
@@ -332,24 +660,13 @@ public final class Environment extends Configurable implements Scope {
             it = hash.keys().iterator();
         }
         Scope prevScope = currentScope;
+        LoopContext loop = new LoopContext(block, prevScope, flags, keyName, valueName);
         int index = 0;
-        String keyHasNext = keyName + "_has_next";
-        String valueHasNext = valueName + "_has_next";
-        String keyIndexName = keyName + "_index";
-        String valueIndexName = valueName + "_index";
         try {
             while (it.hasNext()) {
-                currentScope = new BlockScope(block, prevScope);
                 Object key = it.next();
                 Object value = map != null ? map.get(key) : hash.get(key.toString());
-                boolean hasNext = it.hasNext();
-                currentScope.put(keyName, wrap(key));
-                currentScope.put(valueName, wrap(value));
-                currentScope.put(keyHasNext, hasNext);
-                currentScope.put(valueHasNext, hasNext);
-                currentScope.put(keyIndexName, index);
-                currentScope.put(valueIndexName, index++);
-                render(block);
+                render(block, loop.next(key, value, index++, it.hasNext()));
             }
         } catch (BreakException br) {
         } catch (TemplateException te) {
@@ -465,6 +782,12 @@ public final class Environment extends Configurable implements Scope {
         if (macro == Macro.DO_NOTHING_MACRO) {
             return;
         }
+        if (parallelFork && !macro.isParallelSafe()) {
+            // Calls to this template's own functions are checked when it
+            // is parsed, but one from elsewhere can only be checked here.
+            throw new TemplateException("Cannot call " + macro.getName() + " within a parallel list.", this);
+        }
+        macro.recordExecution();
         pushElement(macro);
         try {
             MacroContext mc = new MacroContext(macro, this, nestedBlock, bodyParameters);
@@ -543,6 +866,10 @@ public final class Environment extends Configurable implements Scope {
     }
 
     private void handleTemplateException(TemplateException te) {
+        handleTemplateException(te, null);
+    }
+
+    private void handleTemplateException(TemplateException te, TemplateElement element) {
         // Logic to prevent double-handling of the exception in
         // nested visit() calls.
         if (lastThrowable == te) {
@@ -550,6 +877,10 @@ public final class Environment extends Configurable implements Scope {
         }
         lastThrowable = te;
 
+        if (lazyInstructionStack) {
+            te.setFTLStack(reconstructInstructionStack(element));
+        }
+
         // Log the exception
         if (logger.isErrorEnabled()) {
             logger.error(te.getMessage(), te);
@@ -637,10 +968,51 @@ public final class Environment extends Configurable implements Scope {
     }
 
     public String formatNumber(Number number) {
+        return getCurrentNumberFormat().format(number);
+    }
+
+    /**
+     * Writes the number out as {@link #formatNumber(Number)} formats it.
+     * Whole numbers are formatted in a buffer that this environment
+     * reuses, if the number format allows it.
+     */
+    public void writeNumber(Number number, Writer out) throws IOException {
+        NumberFormat format = getCurrentNumberFormat();
+        if (integerFormat != null && IntegerFormat.isWholeLong(number)) {
+            integerFormat.write(number.longValue(), getCharBuffer(), out);
+        } else {
+            out.write(format.format(number));
+        }
+    }
+
+    /**
+     * Writes the chars out without making a string of them first.
+     */
+    public void writeChars(CharSequence chars, Writer out) throws IOException {
+        char[] buffer = getCharBuffer();
+        int length = chars.length();
+        for (int start = 0; start < length; start += buffer.length) {
+            int end = Math.min(length, start + buffer.length);
+            for (int i = start; i < end; i++) {
+                buffer[i - start] = chars.charAt(i);
+            }
+            out.write(buffer, 0, end - start);
+        }
+    }
+
+    private NumberFormat getCurrentNumberFormat() {
         if (numberFormat == null) {
             numberFormat = getNumberFormatObject(getNumberFormat());
+            integerFormat = IntegerFormat.of(numberFormat);
+        }
+        return numberFormat;
+    }
+
+    private char[] getCharBuffer() {
+        if (charBuffer == null) {
+            charBuffer = new char[Math.max(256, IntegerFormat.MAX_LENGTH)];
         }
-        return numberFormat.format(number);
+        return charBuffer;
     }
 
     public void setNumberFormat(String formatName) {
@@ -694,26 +1066,29 @@ public final class Environment extends Configurable implements Scope {
         }
 
         // Get format from global format cache
-        synchronized (localizedNumberFormats) {
-            Locale locale = getLocale();
-            NumberFormatKey fk = new NumberFormatKey(pattern, locale);
-            format = localizedNumberFormats.get(fk);
-            if (format == null) {
-                // Add format to global format cache. Note this is
-                // globally done once per locale per pattern.
-                if ("number".equals(pattern)) {
-                    format = NumberFormat.getNumberInstance(locale);
-                } else if ("currency".equals(pattern)) {
-                    format = NumberFormat.getCurrencyInstance(locale);
-                } else if ("percent".equals(pattern)) {
-                    format = NumberFormat.getPercentInstance(locale);
-                } else if ("computer".equals(pattern)) {
-                    format = getCNumberFormat();
-                } else {
-                    format = new DecimalFormat(pattern,
-                            new DecimalFormatSymbols(getLocale()));
-                }
-                localizedNumberFormats.put(fk, format);
+        Locale locale = getLocale();
+        NumberFormatKey fk = new NumberFormatKey(pattern, locale);
+        format = localizedNumberFormats.get(fk);
+        if (format == null) {
+            // Add format to global format cache. Note this is
+            // globally done once per locale per pattern.
+            if ("number".equals(pattern)) {
+                format = NumberFormat.getNumberInstance(locale);
+            } else if ("currency".equals(pattern)) {
+                format = NumberFormat.getCurrencyInstance(locale);
+            } else if ("percent".equals(pattern)) {
+                format = NumberFormat.getPercentInstance(locale);
+            } else if ("computer".equals(pattern)) {
+                format = getCNumberFormat();
+            } else {
+                format = new DecimalFormat(pattern,
+                        new DecimalFormatSymbols(getLocale()));
+            }
+            // If another thread got there first, use its format,
+            // so that there is only ever one per key.
+            NumberFormat existing = localizedNumberFormats.putIfAbsent(fk, format);
+            if (existing != null) {
+                format = existing;
             }
         }
 
@@ -770,59 +1145,60 @@ public final class Environment extends Configurable implements Scope {
         }
 
         // Get format from global format cache
-        synchronized (localizedDateFormats) {
-            Locale locale = getLocale();
-            TimeZone timeZone = getTimeZone();
-            DateFormatKey fk = new DateFormatKey(dateType, pattern, locale,
-                    timeZone);
-            format = localizedDateFormats.get(fk);
-            if (format == null) {
-                // Add format to global format cache. Note this is
-                // globally done once per locale per pattern.
-                StringTokenizer tok = new StringTokenizer(pattern, "_");
-                int style = tok.hasMoreTokens() ? parseDateStyleToken(tok
-                        .nextToken()) : DateFormat.DEFAULT;
-                if (style != -1) {
-                    switch (dateType) {
-                        case TemplateDateModel.UNKNOWN: {
-                            throw new EvaluationException(
-                                    "Can't convert the date to string using a "
-                                            + "built-in format, because it is not known which "
-                                            + "parts of the date variable are in use. Use "
-                                            + "?date, ?time or ?datetime built-in, or "
-                                            + "?string.<format> or ?string(<format>) built-in "
-                                            + "with explicit formatting pattern with this date.");
-                        }
-                        case TemplateDateModel.TIME: {
-                            format = DateFormat.getTimeInstance(style, locale);
-                            break;
-                        }
-                        case TemplateDateModel.DATE: {
-                            format = DateFormat.getDateInstance(style, locale);
-                            break;
-                        }
-                        case TemplateDateModel.DATETIME: {
-                            int timestyle = tok.hasMoreTokens() ? parseDateStyleToken(tok
-                                    .nextToken())
-                                    : style;
-                            if (timestyle != -1) {
-                                format = DateFormat.getDateTimeInstance(style,
-                                        timestyle, locale);
-                            }
-                            break;
+        Locale locale = getLocale();
+        TimeZone timeZone = getTimeZone();
+        DateFormatKey fk = new DateFormatKey(dateType, pattern, locale,
+                timeZone);
+        format = localizedDateFormats.get(fk);
+        if (format == null) {
+            // Add format to global format cache. Note this is
+            // globally done once per locale per pattern.
+            StringTokenizer tok = new StringTokenizer(pattern, "_");
+            int style = tok.hasMoreTokens() ? parseDateStyleToken(tok
+                    .nextToken()) : DateFormat.DEFAULT;
+            if (style != -1) {
+                switch (dateType) {
+                    case TemplateDateModel.UNKNOWN: {
+                        throw new EvaluationException(
+                                "Can't convert the date to string using a "
+                                        + "built-in format, because it is not known which "
+                                        + "parts of the date variable are in use. Use "
+                                        + "?date, ?time or ?datetime built-in, or "
+                                        + "?string.<format> or ?string(<format>) built-in "
+                                        + "with explicit formatting pattern with this date.");
+                    }
+                    case TemplateDateModel.TIME: {
+                        format = DateFormat.getTimeInstance(style, locale);
+                        break;
+                    }
+                    case TemplateDateModel.DATE: {
+                        format = DateFormat.getDateInstance(style, locale);
+                        break;
+                    }
+                    case TemplateDateModel.DATETIME: {
+                        int timestyle = tok.hasMoreTokens() ? parseDateStyleToken(tok
+                                .nextToken())
+                                : style;
+                        if (timestyle != -1) {
+                            format = DateFormat.getDateTimeInstance(style,
+                                    timestyle, locale);
                         }
+                        break;
                     }
                 }
-                if (format == null) {
-                    try {
-                        format = new SimpleDateFormat(pattern, locale);
-                    } catch (IllegalArgumentException e) {
-                        throw new EvaluationException("Can't parse "
-                                + pattern + " to a date format.", e);
-                    }
+            }
+            if (format == null) {
+                try {
+                    format = new SimpleDateFormat(pattern, locale);
+                } catch (IllegalArgumentException e) {
+                    throw new EvaluationException("Can't parse "
+                            + pattern + " to a date format.", e);
                 }
-                format.setTimeZone(timeZone);
-                localizedDateFormats.put(fk, format);
+            }
+            format.setTimeZone(timeZone);
+            DateFormat existing = localizedDateFormats.putIfAbsent(fk, format);
+            if (existing != null) {
+                format = existing;
             }
         }
 
@@ -891,6 +1267,45 @@ public final class Environment extends Configurable implements Scope {
         return currentScope.resolveVariable(name);
     }
 
+    /**
+     * Looks up a variable that was resolved to a slot when the template
+     * was parsed (see Identifier.resolveSlot()). The scopes of the blocks
+     * in between are skipped without a name lookup, since none of them
+     * declares the variable. As soon as the scope chain is not the one
+     * the template's nesting implies (a macro namespace, say) or a scope
+     * holds undeclared variables, this falls back to looking up the name.
+     *
+     * @param declaringBlock the innermost enclosing block that declares the variable
+     * @param slot the variable's slot in that block
+     * @param enclosingBlocks the blocks between the reference and the declaring block
+     */
+    public Object getVariable(String name, Block declaringBlock, int slot, Block[] enclosingBlocks) {
+        Scope scope = currentScope;
+        while (scope instanceof BlockScope) {
+            BlockScope blockScope = (BlockScope) scope;
+            Block block = blockScope.getBlock();
+            if (block == declaringBlock) {
+                Object result = blockScope.getSlotValue(slot);
+                if (result != null) {
+                    return result;
+                }
+                break;
+            }
+            if (blockScope.hasUndeclaredVariables() || !contains(enclosingBlocks, block)) {
+                break;
+            }
+            scope = blockScope.getEnclosingScope();
+        }
+        return scope.resolveVariable(name);
+    }
+
+    private static boolean contains(Block[] blocks, Block block) {
+        for (Block b : blocks) {
+            if (b == block) return true;
+        }
+        return false;
+    }
+
     /**
      * This method returns a variable from the "global" namespace and falls back
      * to the data model.
@@ -1024,7 +1439,8 @@ public final class Environment extends Configurable implements Scope {
      */
     public Scope getCurrentNamespace() {
         Scope scope = currentScope;
-        while (scope.getEnclosingScope() != this) {
+        // A parallel loop's environments share their parent's namespaces.
+        while (!(scope.getEnclosingScope() instanceof Environment)) {
             scope = scope.getEnclosingScope();
         }
         return scope;
@@ -1052,10 +1468,69 @@ public final class Environment extends Configurable implements Scope {
         return result;
     }
 
+    /**
+     * @return the stack of the elements being rendered, innermost last.
+     * If the instruction stack is lazy (see {@link #hasLazyInstructionStack()}),
+     * this only contains the macro calls, includes and other call sites.
+     */
     public List<TemplateElement> getElementStack() {
         return Collections.unmodifiableList(elementStack);
     }
 
+    /**
+     * @return whether the FTL instruction stack is only reconstructed
+     * when an error occurs.
+     * @see Configuration#setLazyInstructionStack(boolean)
+     */
+    public boolean hasLazyInstructionStack() {
+        return lazyInstructionStack;
+    }
+
+    /**
+     * Rebuilds what the element stack would be in the eager mode, innermost
+     * first, from the given failing element and the recorded call sites.
+     * Each call site (and the failing element) is followed by its parents,
+     * up to the enclosing macro or an element that is itself further down
+     * the recorded stack. The latter is the case for the body of a macro
+     * call, which is lexically inside the call, but is reached through
+     * the <tt>#nested</tt> in the macro.
+     */
+    private List<TemplateElement> reconstructInstructionStack(TemplateElement innermost) {
+        List<TemplateElement> result = new ArrayList<>();
+        int frame = elementStack.size();
+        if (frame > 0 && (innermost == null || elementStack.get(frame - 1) == innermost)) {
+            innermost = elementStack.get(--frame);
+        }
+        TemplateElement element = innermost;
+        while (element != null) {
+            result.add(element);
+            if (!(element instanceof Macro)) {
+                for (Node parent = element.getParent(); parent != null; parent = parent.getParent()) {
+                    if (isRecordedBelow(parent, frame)) {
+                        break;
+                    }
+                    if (parent instanceof TemplateElement) {
+                        result.add((TemplateElement) parent);
+                    }
+                    if (parent instanceof Macro) {
+                        break;
+                    }
+                }
+            }
+            element = frame > 0 ? elementStack.get(--frame) : null;
+        }
+        return result;
+    }
+
+    private boolean isRecordedBelow(Node node, int frame) {
+        for (int i = frame - 1; i >= 0; i--) {
+            if (elementStack.get(i) == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void pushElement(TemplateElement element) {
         elementStack.add(element);
     }
@@ -1212,6 +1687,7 @@ public final class Environment extends Configurable implements Scope {
             this.currentScope = getCurrentNamespace();
             importMacros(includedTemplate);
         }
+        includedTemplate.recordExecution();
         try {
             render(includedTemplate.getRootElement());
         } finally {
@@ -1296,6 +1772,7 @@ public final class Environment extends Configurable implements Scope {
             Configurable prevParent = getFallback();
             this.out = NULL_WRITER;
             setFallback(loadedTemplate);
+            loadedTemplate.recordExecution();
             try {
                 render(loadedTemplate.getRootElement());
             } finally {
@@ -1309,13 +1786,14 @@ public final class Environment extends Configurable implements Scope {
 
     public String renderElementToString(TemplateElement te) throws IOException {
         Writer prevOut = out;
+        CaptureBuffer buffer = borrowBuffer();
         try {
-            StringWriter sw = new StringWriter();
-            this.out = sw;
+            this.out = buffer;
             render(te);
-            return sw.toString();
+            return buffer.toString();
         } finally {
             this.out = prevOut;
+            returnBuffer(buffer);
         }
     }
 
@@ -0,0 +1,35 @@
+package freemarker3.core;
+
+/**
+ * The reactive streams interfaces, with the same shape and contract as
+ * those nested in <tt>java.util.concurrent.Flow</tt>, which we can't
+ * use as long as we run on Java 8. On a later JVM, adapting between
+ * the two is a matter of a few lambdas.
+ * @see RenderPublisher
+ */
+public final class Flow {
+
+    private Flow() {
+    }
+
+    @FunctionalInterface
+    public interface Publisher<T> {
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    public interface Subscription {
+        void request(long n);
+
+        void cancel();
+    }
+}
@@ -0,0 +1,124 @@
+package freemarker3.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+
+/**
+ * Formats whole numbers the way a given {@link DecimalFormat} would,
+ * into a char buffer, so that nothing is allocated for them.
+ * Only formats that show whole numbers as just the digits, grouped or
+ * not, between a prefix and a suffix, can be handled this way.
+ * @see Environment#writeNumber(Number, Writer)
+ */
+final class IntegerFormat {
+
+    /**
+     * The most chars that {@link #write(long, char[], Writer)} puts in
+     * the buffer, for the formats that {@link #of(NumberFormat)} accepts.
+     */
+    static final int MAX_LENGTH = 80;
+
+    private static final int MAX_MINIMUM_DIGITS = 32;
+
+    private final String positivePrefix, positiveSuffix;
+    private final String negativePrefix, negativeSuffix;
+    private final char zeroDigit;
+    private final char groupingSeparator;
+    private final int groupingSize;
+    private final int minimumDigits;
+
+    private IntegerFormat(DecimalFormat format) {
+        DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+        this.zeroDigit = symbols.getZeroDigit();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+        this.minimumDigits = format.getMinimumIntegerDigits();
+    }
+
+    /**
+     * @return the integer format that gives the same output as the
+     * given format for whole numbers, or null if there is none.
+     */
+    static IntegerFormat of(NumberFormat format) {
+        if (!(format instanceof DecimalFormat)) {
+            return null;
+        }
+        DecimalFormat df = (DecimalFormat) format;
+        String pattern = df.toPattern();
+        // Currency formats can have a grouping separator of their own,
+        // which DecimalFormatSymbols only tells us about in later JDKs.
+        if (pattern.indexOf('E') >= 0 || pattern.indexOf('\u00A4') >= 0) {
+            return null;
+        }
+        if (df.getMultiplier() != 1
+            || df.getMinimumFractionDigits() > 0
+            || df.isDecimalSeparatorAlwaysShown()
+            || df.getMaximumIntegerDigits() < 19
+            || df.getMinimumIntegerDigits() > MAX_MINIMUM_DIGITS)
+        {
+            return null;
+        }
+        return new IntegerFormat(df);
+    }
+
+    /**
+     * @return whether the number is a whole number that can be written
+     * with {@link #write(long, char[], Writer)}.
+     */
+    static boolean isWholeLong(Number number) {
+        Class<?> c = number.getClass();
+        if (c == Integer.class || c == Long.class) {
+            return number.longValue() != Long.MIN_VALUE;
+        }
+        if (c == BigDecimal.class) {
+            BigDecimal bd = (BigDecimal) number;
+            return bd.scale() == 0 && bd.precision() < 19;
+        }
+        if (c == Short.class || c == Byte.class) {
+            return true;
+        }
+        if (c == BigInteger.class) {
+            return ((BigInteger) number).bitLength() < 63;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the number, using the end of the buffer to format it.
+     * The buffer must hold at least {@link #MAX_LENGTH} chars.
+     */
+    void write(long n, char[] buffer, Writer out) throws IOException {
+        boolean negative = n < 0;
+        if (negative) {
+            n = -n;
+        }
+        int pos = buffer.length;
+        int digits = 0;
+        do {
+            if (groupingSize > 0 && digits > 0 && digits % groupingSize == 0) {
+                buffer[--pos] = groupingSeparator;
+            }
+            buffer[--pos] = (char) (zeroDigit + (int) (n % 10));
+            n /= 10;
+            digits++;
+        } while (n != 0 || digits < minimumDigits);
+        String prefix = negative ? negativePrefix : positivePrefix;
+        String suffix = negative ? negativeSuffix : positiveSuffix;
+        if (!prefix.isEmpty()) {
+            out.write(prefix);
+        }
+        out.write(buffer, pos, buffer.length - pos);
+        if (!suffix.isEmpty()) {
+            out.write(suffix);
+        }
+    }
+}
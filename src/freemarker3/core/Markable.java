@@ -0,0 +1,32 @@
+package freemarker3.core;
+
+import java.io.IOException;
+
+/**
+ * Implemented by the engine's own output buffers, so that an
+ * <tt>#attempt</tt> block can write straight to the output and have
+ * what it wrote taken back if it fails, rather than being rendered into
+ * a buffer of its own and copied over when it succeeds.
+ * @see Environment#render(freemarker3.core.nodes.generated.Block, freemarker3.core.nodes.generated.Block)
+ */
+public interface Markable {
+
+    /**
+     * Marks the current end of the output. Marks nest, and each one
+     * has to be released, innermost first, by a call to either
+     * {@link #commit(long)} or {@link #rollback(long)}.
+     * @return the mark, or -1 if the output can't be marked right now,
+     * in which case there is nothing to release.
+     */
+    long mark() throws IOException;
+
+    /**
+     * Releases the mark, keeping what was written since.
+     */
+    void commit(long mark) throws IOException;
+
+    /**
+     * Releases the mark, dropping what was written since.
+     */
+    void rollback(long mark) throws IOException;
+}
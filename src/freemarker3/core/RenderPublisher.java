@@ -0,0 +1,155 @@
+package freemarker3.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import freemarker3.template.Template;
+
+/**
+ * Publishes the output of a template as a stream of byte chunks. Each
+ * subscriber gets its own rendering of the template, which runs on the
+ * given executor and writes through a {@link ByteSinkWriter}. A chunk is
+ * emitted whenever the writer's buffer fills up, and whenever the template
+ * does a <tt>#flush</tt>. When the subscriber has not requested any more
+ * chunks, the rendering thread waits until it does, and if the subscriber
+ * cancels, the rendering is abandoned at the next chunk.
+ *
+ * <p>Since the template engine itself is synchronous, a waiting render
+ * holds on to its thread, so the executor should be one that can afford
+ * that, for instance a pool sized for the number of concurrent renders.
+ * The wait is on a lock rather than a monitor, so a render running on a
+ * virtual thread does not pin its carrier thread while it waits.
+ * @see Template#publish(Map, Charset, Executor)
+ */
+public class RenderPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final Template template;
+    private final Map<String,Object> rootMap;
+    private final Charset charset;
+    private final Executor executor;
+
+    public RenderPublisher(Template template, Map<String,Object> rootMap, Charset charset, Executor executor) {
+        this.template = template;
+        this.rootMap = rootMap;
+        this.charset = charset;
+        this.executor = executor;
+    }
+
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        RenderSubscription subscription = new RenderSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        executor.execute(subscription);
+    }
+
+    /**
+     * Thrown from the sink to unwind the rendering once the
+     * subscriber has cancelled.
+     */
+    private static class CancelledException extends IOException {
+        CancelledException() {
+            super("Subscription cancelled");
+        }
+    }
+
+    private class RenderSubscription implements Flow.Subscription, ByteSinkWriter.Sink, Runnable {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition demandChanged = lock.newCondition();
+        private long demand;
+        private boolean cancelled;
+        private Throwable error;
+
+        RenderSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Non-positive request: " + n);
+                    cancel();
+                    return;
+                }
+                demand += n;
+                if (demand < 0) {
+                    demand = Long.MAX_VALUE;
+                }
+                demandChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                demandChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public void write(ByteBuffer chunk) throws IOException {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled) {
+                    try {
+                        demandChanged.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for demand");
+                    }
+                }
+                if (cancelled) {
+                    throw new CancelledException();
+                }
+                demand--;
+            } finally {
+                lock.unlock();
+            }
+            // The writer reuses its buffer, so the subscriber gets a copy.
+            ByteBuffer copy = ByteBuffer.allocate(chunk.remaining());
+            copy.put(chunk);
+            copy.flip();
+            subscriber.onNext(copy);
+        }
+
+        public void run() {
+            Throwable failure = null;
+            try (ByteSinkWriter writer = new ByteSinkWriter(this, charset)) {
+                Environment env = template.createProcessingEnvironment(rootMap, writer);
+                env.setOutputEncoding(charset.name());
+                env.process();
+            } catch (Throwable t) {
+                failure = t;
+            }
+            lock.lock();
+            try {
+                if (cancelled) {
+                    // A bad request is reported from here, so that the
+                    // subscriber is only ever signalled from this thread.
+                    if (error == null) {
+                        return;
+                    }
+                    failure = error;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) {
+                subscriber.onError(failure);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package freemarker3.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * A run of static template text. Along with the text, it keeps the
+ * text encoded in the charset it was last output in, so that when the
+ * output goes to a {@link ByteSinkWriter}, the bytes are copied straight
+ * out and no charset work is done on each render. This is only done for
+ * the charsets that are {@link ByteSinkWriter#isEncodedByHand(Charset)
+ * encoded by hand}, as with the others, a run can't be encoded on its own.
+ */
+public final class StaticText {
+
+    private static final class Encoded {
+        final Charset charset;
+        final byte[] bytes;
+
+        Encoded(Charset charset, byte[] bytes) {
+            this.charset = charset;
+            this.bytes = bytes;
+        }
+    }
+
+    private final String text;
+    private volatile Encoded encoded;
+
+    public StaticText(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the text encoded in the given charset, which must be
+     * one that is encoded by hand. The result must not be modified.
+     */
+    public byte[] getBytes(Charset charset) {
+        if (!ByteSinkWriter.isEncodedByHand(charset)) {
+            throw new IllegalArgumentException("Cannot encode static text ahead of time in " + charset);
+        }
+        Encoded encoded = this.encoded;
+        if (encoded == null || !encoded.charset.equals(charset)) {
+            // If two threads get here, they just both do the work.
+            encoded = new Encoded(charset, text.getBytes(charset));
+            this.encoded = encoded;
+        }
+        return encoded.bytes;
+    }
+
+    public void write(Writer out) throws IOException {
+        if (out instanceof ByteSinkWriter && ByteSinkWriter.isEncodedByHand(((ByteSinkWriter) out).getCharset())) {
+            ByteSinkWriter sink = (ByteSinkWriter) out;
+            byte[] bytes = getBytes(sink.getCharset());
+            sink.writeEncoded(bytes, 0, bytes.length);
+        } else {
+            out.write(text);
+        }
+    }
+}
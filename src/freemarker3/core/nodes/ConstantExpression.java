@@ -0,0 +1,35 @@
+package freemarker3.core.nodes;
+
+import freemarker3.core.Environment;
+import freemarker3.core.nodes.generated.Expression;
+import freemarker3.core.nodes.generated.TemplateNode;
+
+/**
+ * An expression whose value was worked out when the template was
+ * parsed. It stands in for the subtree that it was worked out from,
+ * and keeps that subtree's location, so that it shows up in the same
+ * way in error messages and in <tt>?source</tt>.
+ * The value is a string, number or boolean, which is immutable.
+ */
+public class ConstantExpression extends TemplateNode implements Expression {
+
+    private final Object value;
+
+    public ConstantExpression(Object value) {
+        this.value = value;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Object evaluate(Environment env) {
+        return value;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        ConstantExpression result = new ConstantExpression(value);
+        result.setTemplate(getTemplate());
+        return result;
+    }
+}
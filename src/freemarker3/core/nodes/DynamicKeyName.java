@@ -12,11 +12,12 @@ import freemarker3.template.TemplateHashModel;
 import freemarker3.template.TemplateSequenceModel;
 
 import java.util.Map;
-import java.util.ArrayList;
 import java.util.List;
 
 public class DynamicKeyName extends TemplateNode implements Expression {
 
+    private final PropertyCache propertyCache = new PropertyCache();
+
     public Expression getNameExpression() {
         return (Expression) get(2);
     }
@@ -84,7 +85,7 @@ public class DynamicKeyName extends TemplateNode implements Expression {
         if (lhs instanceof TemplateHashModel) {
             return wrap(((TemplateHashModel) lhs).get(key));
         }
-        return ReflectionCode.getProperty(lhs, key, getTemplate().legacySyntax()) ;
+        return propertyCache.getProperty(lhs, key, getTemplate().legacySyntax());
     }
 
     private Object dealWithRangeKey(Object target, RangeExpression range, Environment env) {
@@ -113,17 +114,7 @@ public class DynamicKeyName extends TemplateNode implements Expression {
                 String msg = range.getRight().getLocation() + "\nRight side index of range out of bounds, is " + end + ", but the sequence has only " + list.size() + " element(s)." + "(note that indices are 0 based, and ranges are inclusive).";
                 throw new TemplateException(msg, env);
             }
-            ArrayList<Object> result = new ArrayList<>();
-            if (start > end) {
-                for (int i = start; i >= end; i--) {
-                    result.add(list.get(i));
-                }
-            } else {
-                for (int i = start; i <= end; i++) {
-                    result.add(list.get(i));
-                }
-            }
-            return result;
+            return ListViews.range(list, start, end);
         }
         String s = getTarget().getStringValue(env);
         if (!hasRhs) end = s.length() - 1;
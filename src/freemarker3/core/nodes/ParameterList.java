@@ -206,7 +206,7 @@ public class ParameterList extends TemplateNode {
     * on the named parameter info encapsulated in this object.
     */
     public Map<String, Object> getParameterMap(final PositionalArgsList args, final Environment env, boolean ignoreExtraParams) {
-        final int argsSize = args.childrenOfType(Expression.class).size();
+        final int argsSize = args.getArgCount();
         final int paramsSize = params.size();
         final Map<String, Object> result = new HashMap<>();
         if (catchall == null && argsSize > paramsSize && !ignoreExtraParams) {
@@ -0,0 +1,67 @@
+package freemarker3.core.nodes;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of a chain of string concatenations, such as
+ * <tt>a + " " + b</tt>, kept as the list of strings it is made of.
+ * Only an interpolation of a chain of more than two operands builds
+ * one. It writes the parts out one by one, and the concatenated
+ * string is only built if something asks for it.
+ * A rope is never handed out as the value of an expression.
+ * @see freemarker3.core.nodes.generated.AdditiveExpression#writeValue(freemarker3.core.Environment, Writer)
+ */
+public final class Rope implements CharSequence {
+
+    private final List<String> parts = new ArrayList<>();
+    private int length;
+    private String string;
+
+    public Rope(String first, String second) {
+        append(first);
+        append(second);
+    }
+
+    public Rope append(String s) {
+        parts.add(s);
+        length += s.length();
+        string = null;
+        return this;
+    }
+
+    public void writeTo(Writer out) throws IOException {
+        if (string != null) {
+            out.write(string);
+            return;
+        }
+        for (String part : parts) {
+            out.write(part);
+        }
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    public String toString() {
+        if (string == null) {
+            StringBuilder buf = new StringBuilder(length);
+            for (String part : parts) {
+                buf.append(part);
+            }
+            string = buf.toString();
+        }
+        return string;
+    }
+}
@@ -0,0 +1,117 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for AdditiveExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import java.io.Writer;
+import java.io.IOException;
+import freemarker3.core.variables.EvaluationException;
+import freemarker3.core.nodes.Rope;
+import freemarker3.core.Environment;
+import freemarker3.core.ArithmeticEngine;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class AdditiveExpression extends TemplateNode implements Expression {
+
+    public Expression getLeft() {
+        return (Expression) get(0);
+    }
+
+    public Expression getRight() {
+        return (Expression) get(2);
+    }
+
+    public Object evaluate(Environment env) {
+        return evaluate(env, false);
+    }
+
+    public void writeValue(Environment env, Writer out) throws IOException {
+        // With just two operands, there is no intermediate string to save.
+        Object result = evaluate(env, size() > 3);
+        if (result instanceof Rope) {
+            ((Rope) result).writeTo(out);
+        } else {
+            writeValue(env, result, out);
+        }
+    }
+
+    /**
+    * Evaluates this expression, except that if <tt>lazily</tt> is set,
+    * and it ends up concatenating strings, the result is a {@link Rope}
+    * rather than a string, so that no intermediate string is built for
+    * each <tt>+</tt>.
+    */
+    private Object evaluate(Environment env, boolean lazily) {
+        Object result = ((Expression) get(0)).evaluate(env);
+        for (int i = 0; i < size() / 2; i++) {
+            boolean isMinus = get(i * 2 + 1).getType() == MINUS;
+            if (isMinus) {
+                if (!(result instanceof Number)) {
+                    throw new EvaluationException("Expecting number here");
+                }
+                Number leftSide = (Number) result;
+                Expression rhs = (Expression) get(i * 2 + 2);
+                Object rightSide = rhs.evaluate(env);
+                if (!(rightSide instanceof Number)) {
+                    throw new EvaluationException("Expecting number at: " + rhs.getLocation());
+                }
+                ArithmeticEngine ae = env != null ? env.getArithmeticEngine() : getTemplate().getArithmeticEngine();
+                result = ae.subtract(leftSide, (Number) rightSide);
+                continue;
+            }
+            Object right = ((Expression) get(i * 2 + 2)).evaluate(env);
+            result = addOrConcatenate(env, result, right, lazily);
+        }
+        return result;
+    }
+
+    private Object addOrConcatenate(Environment env, Object left, Object right, boolean lazily) {
+        if (left instanceof Rope) {
+            return ((Rope) left).append(getRight().getStringValue(env, right));
+        }
+        if (left instanceof Number && right instanceof Number) {
+            ArithmeticEngine ae = env != null ? env.getArithmeticEngine() : getTemplate().getArithmeticEngine();
+            return ae.add((Number) left, (Number) right);
+        }
+        if (isList(left) && isList(right)) {
+            List leftList = asList(left);
+            List rightList = asList(right);
+            List result = new ArrayList();
+            result.addAll(leftList);
+            result.addAll(rightList);
+            return result;
+        }
+        if (isMap(left) && isMap(right)) {
+            Map leftMap = (Map) unwrap(left);
+            Map rightMap = (Map) unwrap(right);
+            Map result = new LinkedHashMap(leftMap);
+            for (Object key : rightMap.keySet()) {
+                result.put(key, rightMap.get(key));
+            }
+            return result;
+        }
+        String leftString = getLeft().getStringValue(env, left);
+        String rightString = getRight().getStringValue(env, right);
+        return lazily ? new Rope(leftString, rightString) : leftString + rightString;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        AdditiveExpression result = new AdditiveExpression();
+        for (Node n : this) {
+            if (n instanceof Expression) {
+                result.add(((Expression) n).deepClone(name, subst));
+            } else {
+                result.add(n);
+            }
+        }
+        return result;
+    }
+
+}
+
+
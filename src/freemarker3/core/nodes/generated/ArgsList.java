@@ -0,0 +1,109 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for ArgsList AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.template.TemplateMethodModel;
+import freemarker3.template.TemplateException;
+import freemarker3.core.nodes.ParameterList;
+import freemarker3.core.parser.FMLexer.LexicalState;
+import freemarker3.core.parser.*;
+import freemarker3.core.variables.*;
+import freemarker3.core.Environment;
+import freemarker3.annotations.Parameters;
+import java.lang.reflect.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public abstract class ArgsList extends TemplateNode {
+    /**
+    * Cache the retrieved annotation information, since it seems like
+    * this operation could be a bit expensive.
+    */
+    private static Map<String, ParameterList> parameterListCache = new ConcurrentHashMap<String, ParameterList>();
+    // Placeholder for null - ConcurrentHashMap doesn't tolerate null values
+    private static final ParameterList NO_PARAM_LIST = new ParameterList();
+
+    /**
+    * The target will be either a TemplateTranformModel or a TemplateMethodModel.
+    * This returns a key-value map of the arguments to be passed to the target.
+    * A TemplateException will be thrown if the target's parameters do not match
+    * this ArgList in some way.
+    */
+    public abstract Map<String, Object> getParameterMap(Object target, Environment env);
+
+    public abstract List<Object> getParameterSequence(Object target, Environment env);
+
+    public static ParameterList getParameterList(Object target) {
+        String keyName = target.getClass().getName();
+        ParameterList result = parameterListCache.get(keyName);
+        if (result == NO_PARAM_LIST) {
+            return null;
+        }
+        if (result != null) {
+            return result;
+        }
+        Parameters params = getAnnotatedParameters(target);
+        if (params != null) {
+            String paramString = params.value();
+            if ("".equals(paramString)) {
+                result = new ParameterList();
+            } else try {
+                result = getParameterList(paramString);
+            } catch (Exception pe) {
+                throw new TemplateException("Can't parse parameter list [" + paramString + "] on " + target, pe, Environment.getCurrentEnvironment());
+            }
+            parameterListCache.put(keyName, result);
+            return result;
+        } else {
+            parameterListCache.put(keyName, NO_PARAM_LIST);
+            return null;
+        }
+    }
+
+    private static ParameterList getParameterList(String s) {
+        FMLexer token_source = new FMLexer(s);
+        token_source.switchTo(LexicalState.EXPRESSION);
+        FMParser parser = new FMParser(token_source);
+        return parser.ParameterList();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Parameters getAnnotatedParameters(Object target) {
+        Parameters params = null;
+        Method keyMethod = null;
+        if (target instanceof TemplateMethodModel) {
+            try {
+                keyMethod = target.getClass().getMethod("exec", new Class[] {List.class});
+            } catch (Exception e) {
+                // This condition should be impossible. If something is
+                // a TemplateMethodModel, it must implement this method.
+                throw new InternalError(e.getMessage());
+            }
+        } else if (target instanceof VarArgsFunction) {
+            try {
+                keyMethod = target.getClass().getMethod("apply", new Class[] {new Object[0].getClass()});
+            } catch (Exception e) {
+                // Again, this condition should be impossible. If something is
+                // a VarArgsFunction, it must implement this method.
+                throw new InternalError(e.getMessage());
+            }
+        }
+        if (keyMethod != null) {
+            params = keyMethod.getAnnotation(Parameters.class);
+        }
+        if (params == null) {
+            // Check if the class is annotated now
+            params = target.getClass().getAnnotation(Parameters.class);
+        }
+        return params;
+    }
+
+    public abstract ArgsList deepClone(String name, Expression subst);
+
+}
+
+
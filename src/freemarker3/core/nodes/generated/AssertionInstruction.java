@@ -0,0 +1,31 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for AssertionInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.AssertionFailedException;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class AssertionInstruction extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) {
+        Expression exp = (Expression) get(1);
+        if (!exp.isTrue(env)) {
+            String message = "Assertion failed. Expression " + exp + " was false.";
+            if (size() > 3) {
+                String extraInfo = ((Expression) get(3)).getStringValue(env);
+                message += " ";
+                message += extraInfo;
+            }
+            throw new AssertionFailedException(env, message);
+        }
+    }
+
+}
+
+
@@ -0,0 +1,132 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for Block AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import freemarker3.core.CompiledBlock;
+import java.util.*;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class Block extends TemplateNode implements TemplateElement {
+    private static final String[] NO_VARIABLES = new String[0];
+    // The scoped variables defined in this element, in declaration order.
+    // A variable's index in this array is its slot in a BlockScope.
+    // The names are interned, so a lookup by an interned name
+    // (see Identifier.getName()) is usually an identity comparison.
+    private String[] declaredVariables = NO_VARIABLES;
+    // Only built for blocks that declare many variables
+    private HashMap<String, Integer> slotLookup;
+
+    /**
+    * @return the slot of the given variable in a scope for this block,
+    * or -1 if this block does not declare it.
+    */
+    public int getSlot(String name) {
+        String[] names = declaredVariables;
+        if (slotLookup != null) {
+            Integer slot = slotLookup.get(name);
+            return slot == null ? -1 : slot;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == name) return i;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    public int getSlotCount() {
+        return declaredVariables.length;
+    }
+
+    public String getSlotName(int slot) {
+        return declaredVariables[slot];
+    }
+
+    public boolean declaresVariable(String name) {
+        return getSlot(name) >= 0;
+    }
+
+    public void declareVariable(String varName) {
+        if (declaresVariable(varName)) return;
+        String[] names = Arrays.copyOf(declaredVariables, declaredVariables.length + 1);
+        names[names.length - 1] = varName.intern();
+        if (names.length > 8) {
+            HashMap<String, Integer> lookup = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                lookup.put(names[i], i);
+            }
+            slotLookup = lookup;
+        }
+        declaredVariables = names;
+    }
+
+    public final boolean createsScope() {
+        return declaredVariables.length > 0;
+    }
+
+    // Set when the owning template is compiled. Deliberately not volatile,
+    // since it is read on every execution: a CompiledBlock only has final
+    // fields, so a thread either sees it fully built or still sees null
+    // and interprets the block, which gives the same output.
+    private CompiledBlock compiledForm;
+
+    public CompiledBlock getCompiledForm() {
+        return compiledForm;
+    }
+
+    public void setCompiledForm(CompiledBlock compiledForm) {
+        this.compiledForm = compiledForm;
+    }
+
+    private TemplateElement[] elements;
+
+    /**
+    * Captures the executable children in an array, so that executing
+    * this block does not scan (and copy) the child list every time.
+    */
+    public void freeze() {
+        elements = childrenOfType(TemplateElement.class).toArray(new TemplateElement[0]);
+    }
+
+    public TemplateElement[] getElements() {
+        TemplateElement[] result = elements;
+        if (result == null) {
+            // Not frozen, i.e. built outside of the template parser
+            result = childrenOfType(TemplateElement.class).toArray(new TemplateElement[0]);
+        }
+        return result;
+    }
+
+    public void execute(Environment env) throws IOException {
+        CompiledBlock compiled = compiledForm;
+        if (compiled != null) {
+            compiled.execute(env);
+            return;
+        }
+        for (TemplateElement element : getElements()) {
+            env.render(element);
+        }
+    }
+
+    public boolean isTemplateRoot() {
+        return getParent() == null;
+    }
+
+    public String getDescription() {
+        if (getParent() == null) {
+            return "root element";
+        }
+        return "content";
+        // Block is uninteresting in a stack trace.
+    }
+
+}
+
+
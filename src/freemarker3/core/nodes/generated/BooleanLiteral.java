@@ -0,0 +1,33 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for BooleanLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.variables.*;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class BooleanLiteral extends Literal implements Expression {
+
+    public boolean isTrue(Environment env) {
+        return getType() == TRUE;
+    }
+
+    public Boolean evaluate(Environment env) {
+        return isTrue(env);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        return this;
+    }
+
+    public BooleanLiteral(TokenType type, FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
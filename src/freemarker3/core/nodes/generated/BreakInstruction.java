@@ -0,0 +1,26 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for BreakInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.BreakException;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class BreakInstruction extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) {
+        throw BreakException.INSTANCE;
+    }
+
+    public String getDescription() {
+        return "break" + " [" + getLocation() + "]";
+    }
+
+}
+
+
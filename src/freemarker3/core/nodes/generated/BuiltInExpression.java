@@ -0,0 +1,160 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for BuiltInExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.asString;
+import freemarker3.core.variables.JavaMethodCall;
+import freemarker3.template.TemplateDateModel;
+import freemarker3.builtins.*;
+import freemarker3.core.Environment;
+import java.util.HashMap;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class BuiltInExpression extends TemplateNode implements Expression {
+    private static final HashMap<String, BuiltIn> knownBuiltins = new HashMap<String, BuiltIn>();
+    {
+        //        knownBuiltins.put("new", new newBI());
+        //        knownBuiltins.put("sort_by", new SequenceFunctions.SortBy());
+        //        knownBuiltins.put("seq_index_of", new SequenceFunctions.IndexOf());
+        //        knownBuiltins.put("seq_last_index_of", new SequenceFunctions.LastIndexOf());
+        //        knownBuiltins.put("if_exists", new ExistenceBuiltIn.IfExistsBuiltIn());
+        knownBuiltins.put("source", (env, caller) -> caller.getTarget().getSource());
+        knownBuiltins.put("upper_case", (env, caller) -> asString(caller.getTarget().evaluate(env)).toUpperCase(env.getLocale()));
+        knownBuiltins.put("lower_case", (env, caller) -> asString(caller.getTarget().evaluate(env)).toLowerCase(env.getLocale()));
+        knownBuiltins.put("length", (env, caller) -> asString(caller.getTarget().evaluate(env)).length());
+        knownBuiltins.put("trim", (env, caller) -> asString(caller.getTarget().evaluate(env)).trim());
+        knownBuiltins.put("substring", (env, caller) -> new JavaMethodCall(asString(caller.getTarget().evaluate(env)), "substring"));
+        knownBuiltins.put("instanceof", new instanceofBI());
+        knownBuiltins.put("exists", new ExistenceBuiltIn.ExistsBuiltIn());
+        knownBuiltins.put("c", new cBI());
+        knownBuiltins.put("size", new sizeBI());
+        knownBuiltins.put("string", new stringBI());
+        knownBuiltins.put("eval", new evalBI());
+        knownBuiltins.put("interpret", new interpretBI());
+        knownBuiltins.put("resolve", new resolveBI());
+        NumericalCast numericalCast = new NumericalCast();
+        knownBuiltins.put("byte", numericalCast);
+        knownBuiltins.put("double", numericalCast);
+        knownBuiltins.put("float", numericalCast);
+        knownBuiltins.put("int", numericalCast);
+        knownBuiltins.put("long", numericalCast);
+        knownBuiltins.put("short", numericalCast);
+        knownBuiltins.put("floor", numericalCast);
+        knownBuiltins.put("ceiling", numericalCast);
+        knownBuiltins.put("round", numericalCast);
+        knownBuiltins.put("capitalize", new StringTransformations.Capitalize());
+        knownBuiltins.put("cap_first", new StringTransformations.CapFirst(true));
+        knownBuiltins.put("uncap_first", new StringTransformations.CapFirst(false));
+        knownBuiltins.put("j_string", new StringTransformations.Java());
+        knownBuiltins.put("js_string", new StringTransformations.JavaScript());
+        knownBuiltins.put("chop_linebreak", new StringTransformations.Chomp());
+        knownBuiltins.put("html", new StringTransformations.Html());
+        knownBuiltins.put("rtf", new StringTransformations.Rtf());
+        knownBuiltins.put("xml", new StringTransformations.Xml());
+        knownBuiltins.put("xhtml", new StringTransformations.Xhtml());
+        knownBuiltins.put("web_safe", knownBuiltins.get("html"));
+        TypeChecks typeChecks = new TypeChecks();
+        knownBuiltins.put("is_boolean", typeChecks);
+        knownBuiltins.put("is_collection", typeChecks);
+        knownBuiltins.put("is_date", typeChecks);
+        knownBuiltins.put("is_enumerable", typeChecks);
+        knownBuiltins.put("is_hash", typeChecks);
+        knownBuiltins.put("is_hash_ex", typeChecks);
+        knownBuiltins.put("is_indexable", typeChecks);
+        knownBuiltins.put("is_directive", typeChecks);
+        knownBuiltins.put("is_method", typeChecks);
+        knownBuiltins.put("is_null", typeChecks);
+        knownBuiltins.put("is_number", typeChecks);
+        knownBuiltins.put("is_macro", typeChecks);
+        knownBuiltins.put("is_node", typeChecks);
+        knownBuiltins.put("is_sequence", typeChecks);
+        knownBuiltins.put("is_string", typeChecks);
+        knownBuiltins.put("is_transform", typeChecks);
+        knownBuiltins.put("join", new StringFunctions.Join());
+        knownBuiltins.put("index_of", new StringFunctions.IndexOf());
+        knownBuiltins.put("last_index_of", new StringFunctions.LastIndexOf());
+        knownBuiltins.put("contains", new StringFunctions.Contains());
+        knownBuiltins.put("number", new numberBI());
+        knownBuiltins.put("left_pad", new StringFunctions.LeftPad());
+        knownBuiltins.put("right_pad", new StringFunctions.RightPad());
+        knownBuiltins.put("replace", new StringFunctions.Replace());
+        knownBuiltins.put("split", new StringFunctions.Split());
+        knownBuiltins.put("groups", new groupsBI());
+        knownBuiltins.put("matches", new StringFunctions.Matches());
+        knownBuiltins.put("starts_with", new StringFunctions.StartsWith());
+        knownBuiltins.put("ends_with", new StringFunctions.EndsWith());
+        knownBuiltins.put("word_list", new StringFunctions.WordList());
+        knownBuiltins.put("url", new StringFunctions.Url());
+        knownBuiltins.put("parent", new NodeFunctions.Parent());
+        knownBuiltins.put("children", new NodeFunctions.Children());
+        knownBuiltins.put("node_name", new NodeFunctions.NodeName());
+        knownBuiltins.put("node_type", new NodeFunctions.NodeType());
+        knownBuiltins.put("node_namespace", new NodeFunctions.NodeNamespace());
+        knownBuiltins.put("root", new NodeFunctions.Root());
+        knownBuiltins.put("ancestors", new NodeFunctions.Ancestors());
+        knownBuiltins.put("first", new SequenceFunctions.First());
+        knownBuiltins.put("last", new SequenceFunctions.Last());
+        knownBuiltins.put("reverse", new SequenceFunctions.Reverse());
+        knownBuiltins.put("sort", new SequenceFunctions.Sort());
+        knownBuiltins.put("chunk", new SequenceFunctions.Chunk());
+        knownBuiltins.put("seq_contains", new SequenceContainsBuiltIn());
+        knownBuiltins.put("scope", new MacroBuiltins.Scope());
+        knownBuiltins.put("namespace", new MacroBuiltins.Namespace());
+        knownBuiltins.put("keys", new HashBuiltin.Keys());
+        knownBuiltins.put("values", new HashBuiltin.Values());
+        knownBuiltins.put("date", new DateTime(TemplateDateModel.DATE));
+        knownBuiltins.put("time", new DateTime(TemplateDateModel.TIME));
+        knownBuiltins.put("datetime", new DateTime(TemplateDateModel.DATETIME));
+        knownBuiltins.put("is_defined", new ExistenceBuiltIn.IsDefinedBuiltIn());
+        knownBuiltins.put("default", new ExistenceBuiltIn.DefaultBuiltIn());
+        knownBuiltins.put("has_content", new ExistenceBuiltIn.HasContentBuiltIn());
+    }
+    private String key;
+    private BuiltIn bi;
+
+    public void close() {
+        key = getKeyTok().toString().intern();
+        bi = knownBuiltins.get(key);
+        if (bi == null) {
+            throw new ParseException("unknown builtin: ?" + key + " at " + getKeyTok().getLocation());
+        }
+    }
+
+    public Expression getTarget() {
+        return (Expression) get(0);
+    }
+
+    public Token getKeyTok() {
+        return (Token) get(2);
+    }
+
+    public BuiltIn getBuiltIn() {
+        return bi;
+    }
+
+    public Object evaluate(Environment env) {
+        return bi.get(env, this);
+    }
+
+    public String getName() {
+        return key;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        BuiltInExpression result = new BuiltInExpression();
+        result.add(getTarget().deepClone(name, subst));
+        result.add(get(1));
+        result.add(getKeyTok());
+        result.key = key;
+        result.bi = bi;
+        return result;
+    }
+
+}
+
+
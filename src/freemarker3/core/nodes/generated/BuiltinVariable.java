@@ -0,0 +1,91 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for BuiltinVariable AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.template.TemplateHashModel;
+import freemarker3.template.TemplateException;
+import freemarker3.template.Configuration;
+import freemarker3.core.Environment;
+import freemarker3.core.variables.*;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class BuiltinVariable extends TemplateNode implements Expression {
+    private String name;
+
+    public void setName(String name) {
+        this.name = name.intern();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object evaluate(Environment env) {
+        switch(name) {
+            case "namespace" : 
+                return env.getCurrentNamespace();
+            case "main" : 
+                return env.getMainNamespace();
+            case "globals" : 
+                return env;
+            case "locals" : 
+                return env.getCurrentMacroContext();
+            case "data_model" : 
+                return env.getDataModel();
+            case "scope" : 
+                return env.getCurrentScope();
+            case "vars" : 
+                return new VarsHash(env);
+            case "locale" : 
+                return env.getLocale().toString();
+            case "lang" : 
+                return env.getLocale().getLanguage();
+            case "current_node" : 
+            case "node" : 
+                return env.getCurrentVisitorNode();
+            case "pass" : 
+                return Macro.DO_NOTHING_MACRO;
+            case "name" : 
+                return env.getTemplate().getName();
+            case "version" : 
+                return Configuration.getVersionNumber();
+            case "output_encoding" : 
+                return env.getOutputEncoding();
+            case "url_escaping_charset" : 
+                return env.getURLEscapingCharset();
+            case "error" : 
+                return env.getCurrentRecoveredErrorMessage();
+        }
+        throw new TemplateException("Invalid built-in variable: " + this, env);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        return this;
+    }
+
+
+    static class VarsHash implements TemplateHashModel {
+        private final Environment env;
+
+        VarsHash(Environment env) {
+            this.env = env;
+        }
+
+        public Object get(String key) {
+            return env.getVariable(key);
+        }
+
+        public boolean isEmpty() {
+            return false;
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,111 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for CacheBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import freemarker3.core.variables.EvaluationException;
+import freemarker3.core.StaticText;
+import freemarker3.core.Environment;
+import freemarker3.core.CaptureBuffer;
+import freemarker3.cache.FragmentCache;
+import java.io.Writer;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class CacheBlock extends TemplateNode implements TemplateElement {
+    private Expression keyExp, ttlExp;
+    private boolean frozen;
+
+    public Expression getParamByName(String name) {
+        for (Node n : this) {
+            if (n instanceof Identifier && n.nextSibling().getType() == EQUALS && n.toString().equals(name)) {
+                return (Expression) n.nextSibling().nextSibling();
+            }
+        }
+        return null;
+    }
+
+    public void freeze() {
+        keyExp = getParamByName("key");
+        ttlExp = getParamByName("ttl");
+        frozen = true;
+    }
+
+    public void execute(Environment env) throws IOException {
+        Expression keyExp = frozen ? this.keyExp : getParamByName("key");
+        Expression ttlExp = frozen ? this.ttlExp : getParamByName("ttl");
+        Object key = keyExp.evaluate(env);
+        keyExp.assertNonNull(key, env);
+        key = unwrap(key);
+        FragmentCache cache = env.getConfiguration().getFragmentCache();
+        StaticText text = cache.get(this, key);
+        if (text == null) {
+            // Without a ttl, the output is kept until the storage of the
+            // fragment cache drops it to make room.
+            long ttl = ttlExp == null ? 0 : getTTL(ttlExp, env);
+            Writer prevOut = env.getOut();
+            CaptureBuffer buffer = env.borrowBuffer();
+            try {
+                env.setOut(buffer);
+                if (getNestedBlock() != null) {
+                    env.render(getNestedBlock());
+                }
+                text = new StaticText(buffer.toString());
+            } finally {
+                env.setOut(prevOut);
+                env.returnBuffer(buffer);
+            }
+            cache.put(this, key, text, ttl);
+        }
+        text.write(env.getOut());
+    }
+
+    /**
+    * @return the time to live in milliseconds, given as a number of
+    * seconds, or as a string such as "500ms", "60s", "5m", "2h" or "1d".
+    * It must come to at least a millisecond.
+    */
+    private static long getTTL(Expression ttlExp, Environment env) {
+        Object ttl = ttlExp.evaluate(env);
+        ttlExp.assertNonNull(ttl, env);
+        if (ttl instanceof Number) {
+            return checkTTL((long) (((Number) ttl).doubleValue() * 1000), ttl, ttlExp);
+        }
+        String s = asString(ttl).trim();
+        int i = 0;
+        while (i < s.length() && (Character.isDigit(s.charAt(i)) || s.charAt(i) == '.')) {
+            i++;
+        }
+        String unit = s.substring(i).trim();
+        long millisPerUnit = unit.equals("ms") ? 1L : unit.equals("s") || unit.isEmpty() ? 1000L : unit.equals("m") ? 60 * 1000L : unit.equals("h") ? 60 * 60 * 1000L : unit.equals("d") ? 24 * 60 * 60 * 1000L : -1L;
+        if (i == 0 || millisPerUnit < 0) {
+            throw new EvaluationException("Invalid ttl: " + s + ", at " + ttlExp.getLocation());
+        }
+        long millis;
+        try {
+            millis = (long) (Double.parseDouble(s.substring(0, i)) * millisPerUnit);
+        } catch (NumberFormatException nfe) {
+            throw new EvaluationException("Invalid ttl: " + s + ", at " + ttlExp.getLocation());
+        }
+        return checkTTL(millis, s, ttlExp);
+    }
+
+    private static long checkTTL(long millis, Object ttl, Expression ttlExp) {
+        if (millis <= 0) {
+            throw new EvaluationException("The ttl must be at least a millisecond: " + ttl + ", at " + ttlExp.getLocation());
+        }
+        return millis;
+    }
+
+    public String getDescription() {
+        return "cache " + (keyExp != null ? keyExp : getParamByName("key"));
+    }
+
+}
+
+
@@ -0,0 +1,39 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for CaseBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class CaseBlock extends TemplateNode implements TemplateElement {
+    private Expression expression;
+    private TemplateElement body;
+    private boolean frozen;
+
+    public void freeze() {
+        expression = firstChildOfType(Expression.class);
+        body = firstChildOfType(TemplateElement.class);
+        frozen = true;
+    }
+
+    public Expression getExpression() {
+        return frozen ? expression : firstChildOfType(Expression.class);
+    }
+
+    public void execute(Environment env) throws IOException {
+        env.render(frozen ? body : firstChildOfType(TemplateElement.class));
+    }
+
+    public String getDescription() {
+        return get(0).toString() + " block";
+    }
+
+}
+
+
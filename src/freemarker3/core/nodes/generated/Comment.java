@@ -0,0 +1,19 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for Comment Token subclass
+* by the ASTToken.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class Comment extends Token {
+
+    public Comment(TokenType type, FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
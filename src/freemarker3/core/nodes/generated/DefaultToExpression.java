@@ -0,0 +1,61 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for DefaultToExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.JAVA_NULL;
+import static freemarker3.core.variables.Wrap.NOTHING;
+import freemarker3.core.variables.*;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class DefaultToExpression extends TemplateNode implements Expression {
+
+    public Expression getLeft() {
+        return (Expression) get(0);
+    }
+
+    private Expression right;
+    private boolean frozen;
+
+    public void freeze() {
+        right = getRight();
+        frozen = true;
+    }
+
+    public Expression getRight() {
+        if (frozen) return right;
+        return childrenOfType(Expression.class).size() == 2 ? (Expression) getLastChild() : null;
+    }
+
+    public Object evaluate(Environment env) {
+        Object left = null;
+        try {
+            left = getLeft().evaluate(env);
+        } catch (InvalidReferenceException ire) {
+            if (!(getLeft() instanceof ParentheticalExpression)) {
+                throw ire;
+            }
+        }
+        if (left != null && left != JAVA_NULL) return left;
+        if (getRight() == null) return NOTHING;
+        return getRight().evaluate(env);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        DefaultToExpression result = new DefaultToExpression();
+        result.add(getLeft().deepClone(name, subst));
+        result.add(get(1));
+        if (getRight() != null) {
+            result.add(getRight().deepClone(name, subst));
+        }
+        return result;
+    }
+
+}
+
+
@@ -0,0 +1,68 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for DotVariable AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.JAVA_NULL;
+import static freemarker3.core.variables.Wrap.wrap;
+import freemarker3.template.TemplateHashModel;
+import freemarker3.core.variables.*;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class DotVariable extends TemplateNode implements Expression {
+
+    public Expression getTarget() {
+        return (Expression) get(0);
+    }
+
+    private String key;
+    private final PropertyCache propertyCache = new PropertyCache();
+
+    public String getKey() {
+        String key = this.key;
+        if (key == null) {
+            this.key = key = get(2).toString();
+        }
+        return key;
+    }
+
+    public boolean isAssignableTo() {
+        return true;
+    }
+
+    public Object evaluate(Environment env) {
+        Object lhs = getTarget().evaluate(env);
+        assertNonNull(lhs, env);
+        if (lhs instanceof Map) {
+            Object key = getKey();
+            Object value = ((Map) lhs).get(key);
+            if (value == null) {
+                return ((Map) lhs).containsKey(key) ? JAVA_NULL : null;
+            }
+            return wrap(value);
+        }
+        if (lhs instanceof TemplateHashModel) {
+            return wrap(((TemplateHashModel) lhs).get(getKey()));
+        }
+        return propertyCache.getProperty(lhs, getKey(), getTemplate().legacySyntax());
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        Expression clonedTarget = getTarget().deepClone(name, subst);
+        Token op = (Token) get(1);
+        Token key = (Token) get(2);
+        Expression result = new DotVariable();
+        result.add(clonedTarget);
+        result.add(op);
+        result.add(key);
+        return result;
+    }
+
+}
+
+
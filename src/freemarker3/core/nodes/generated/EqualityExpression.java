@@ -0,0 +1,62 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for EqualityExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import freemarker3.core.ArithmeticEngine;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import freemarker3.core.parser.Token.TokenType;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class EqualityExpression extends TemplateNode implements Expression {
+
+    public Expression getLeft() {
+        return (Expression) get(0);
+    }
+
+    public Expression getRight() {
+        return (Expression) get(2);
+    }
+
+    public Object evaluate(Environment env) {
+        return isTrue(env);
+    }
+
+    public boolean isTrue(Environment env) {
+        TokenType operation = (TokenType) get(1).getType();
+        Object left = getLeft().evaluate(env);
+        Object right = getRight().evaluate(env);
+        assertIsDefined(left, env);
+        assertIsDefined(right, env);
+        getLeft().assertNonNull(left, env);
+        getRight().assertNonNull(right, env);
+        if (left instanceof Number && right instanceof Number) {
+            ArithmeticEngine ae = env != null ? env.getArithmeticEngine() : getTemplate().getArithmeticEngine();
+            int comp = ae.compareNumbers((Number) left, (Number) right);
+            return operation == NOT_EQUALS ? comp != 0 : comp == 0;
+        }
+        if (left == JAVA_NULL || right == JAVA_NULL) {
+            boolean areEqual = left == right;
+            return operation == NOT_EQUALS ? !areEqual : areEqual;
+        }
+        left = unwrap(left);
+        right = unwrap(right);
+        return operation == NOT_EQUALS ? !left.equals(right) : left.equals(right);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        EqualityExpression result = new EqualityExpression();
+        result.add(getLeft().deepClone(name, subst));
+        result.add(get(1));
+        result.add(getRight().deepClone(name, subst));
+        return result;
+    }
+
+}
+
+
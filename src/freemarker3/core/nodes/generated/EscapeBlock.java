@@ -0,0 +1,57 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for EscapeBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.template.*;
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class EscapeBlock extends TemplateNode implements TemplateElement {
+    private Expression escapedExpression;
+
+    public Expression getExpression() {
+        return (Expression) get(3);
+    }
+
+    public String getVariable() {
+        return get(1).toString();
+    }
+
+    public Expression getEscapedExpression() {
+        return escapedExpression == null ? getExpression() : escapedExpression;
+    }
+
+    /**
+    * This is only used internally.
+    */
+    public void setEscapedExpression(Expression escapedExpression) {
+        this.escapedExpression = escapedExpression;
+    }
+
+    public void setContent(TemplateElement nestedBlock) {
+        this.add(nestedBlock);
+    }
+
+    public void execute(Environment env) throws IOException {
+        if (firstChildOfType(TemplateElement.class) != null) {
+            env.render(firstChildOfType(TemplateElement.class));
+        }
+    }
+
+    public Expression doEscape(Expression subst) {
+        return getEscapedExpression().deepClone(getVariable(), subst);
+    }
+
+    public String getDescription() {
+        return "escape " + getVariable() + " as " + getEscapedExpression();
+    }
+
+}
+
+
@@ -0,0 +1,22 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for ExecInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class ExecInstruction extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) {
+        Expression exp = (Expression) get(1);
+        exp.evaluate(env);
+    }
+
+}
+
+
@@ -0,0 +1,41 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for ExistsExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.JAVA_NULL;
+import freemarker3.core.variables.InvalidReferenceException;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class ExistsExpression extends TemplateNode implements Expression {
+
+    public Expression getExpression() {
+        return (Expression) get(0);
+    }
+
+    public Object evaluate(Environment env) {
+        Object value = null;
+        try {
+            value = getExpression().evaluate(env);
+        } catch (InvalidReferenceException ire) {
+            if (!(getExpression() instanceof ParentheticalExpression)) {
+                throw ire;
+            }
+        }
+        return value != null && value != JAVA_NULL;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        ExistsExpression result = new ExistsExpression();
+        result.add(getExpression().deepClone(name, subst));
+        return result;
+    }
+
+}
+
+
@@ -0,0 +1,123 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for Expression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import java.lang.reflect.Array;
+import java.io.Writer;
+import java.io.IOException;
+import freemarker3.template.TemplateSequenceModel;
+import freemarker3.template.TemplateScalarModel;
+import freemarker3.template.TemplateDateModel;
+import freemarker3.core.variables.InvalidReferenceException;
+import freemarker3.core.Environment;
+import freemarker3.core.variables.*;
+import freemarker3.core.parser.*;
+import java.util.*;
+
+
+public interface Expression extends Node {
+
+    public abstract Object evaluate(Environment env);
+
+    default String getDescription() {
+        return "the expression: " + this;
+    }
+
+    default boolean isAssignableTo() {
+        return false;
+    }
+
+    default String getStringValue(Environment env) {
+        return getStringValue(env, evaluate(env));
+    }
+
+    default String getStringValue(Environment env, Object referent) {
+        assertNonNull(referent, env);
+        if (referent instanceof Number) {
+            return env.formatNumber((Number) referent);
+        }
+        if (referent instanceof TemplateDateModel) {
+            TemplateDateModel dm = (TemplateDateModel) referent;
+            return env.formatDate(getDate(dm, this, env), dm.getDateType());
+        }
+        if (referent instanceof CharSequence) {
+            return asString(referent);
+        }
+        return referent.toString();
+    }
+
+    /**
+    * Writes out the string value of this expression, the same as
+    * {@link #getStringValue(Environment)}, but without building
+    * a string where that can be avoided.
+    */
+    default void writeValue(Environment env, Writer out) throws IOException {
+        writeValue(env, evaluate(env), out);
+    }
+
+    default void writeValue(Environment env, Object referent, Writer out) throws IOException {
+        if (referent instanceof String) {
+            out.write((String) referent);
+        } else if (referent instanceof Number) {
+            env.writeNumber((Number) referent, out);
+        } else if (referent instanceof TemplateDateModel || !(referent instanceof CharSequence)) {
+            out.write(getStringValue(env, referent));
+        } else if (referent instanceof TemplateScalarModel) {
+            ((TemplateScalarModel) referent).writeTo(out);
+        } else {
+            env.writeChars((CharSequence) referent, out);
+        }
+    }
+
+    Expression _deepClone(String name, Expression subst);
+
+    default Expression deepClone(String name, Expression subst) {
+        Expression clone = _deepClone(name, subst);
+        clone.copyLocationFrom(this);
+        clone.setParent(this.getParent());
+        return clone;
+    }
+
+    default void assertNonNull(Object value, Environment env) {
+        assertIsDefined(value, env);
+        if (value == JAVA_NULL) {
+            throw new InvalidReferenceException("Expression " + this + " is null " + getLocation() + ".", env);
+        }
+    }
+
+    default void assertIsDefined(Object value, Environment env) {
+        if (value == null) {
+            throw new InvalidReferenceException("Expression " + this + " is undefined " + getLocation() + ".", env);
+        }
+    }
+
+    default boolean isTrue(Environment env) {
+        Object referent = evaluate(env);
+        assertIsDefined(referent, env);
+        if (referent == JAVA_NULL) {
+            return false;
+        }
+        if (isBoolean(referent)) {
+            return asBoolean(referent);
+        }
+        if (referent instanceof Collection) {
+            return !((Collection) referent).isEmpty();
+        }
+        if (referent instanceof Map) {
+            return !((Map) referent).isEmpty();
+        }
+        if (referent.getClass().isArray()) {
+            return Array.getLength(referent) > 0;
+        }
+        if (referent instanceof TemplateSequenceModel) {
+            return ((TemplateSequenceModel) referent).size() > 0;
+        }
+        return referent.toString().length() > 0;
+    }
+
+}
+
+
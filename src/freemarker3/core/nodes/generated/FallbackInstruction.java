@@ -0,0 +1,26 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for FallbackInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class FallbackInstruction extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) throws IOException {
+        env.fallback();
+    }
+
+    public String getDescription() {
+        return "fallback instruction";
+    }
+
+}
+
+
@@ -0,0 +1,26 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for FlushInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class FlushInstruction extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) throws IOException {
+        env.getOut().flush();
+    }
+
+    public String getDescription() {
+        return "flush instruction";
+    }
+
+}
+
+
@@ -0,0 +1,60 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for HashLiteral AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.variables.*;
+import freemarker3.core.Environment;
+import java.util.*;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class HashLiteral extends TemplateNode implements Expression {
+    private List<Expression> keys = new ArrayList<>();
+    private List<Expression> values = new ArrayList<>();
+
+    public void close() {
+        boolean justSawKey = false;
+        for (Expression exp : childrenOfType(Expression.class)) {
+            if (justSawKey) values.add(exp);
+            else keys.add(exp);
+            justSawKey = !justSawKey;
+        }
+        assert keys.size() == values.size() : getSource();
+    }
+
+    public Object evaluate(Environment env) {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Object key = keys.get(i).evaluate(env);
+            Object value = values.get(i).evaluate(env);
+            result.put(key, value);
+        }
+        return result;
+    }
+
+    public List<Expression> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    public List<Expression> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        HashLiteral result = new HashLiteral();
+        for (int i = 0; i < keys.size(); i++) {
+            Expression keyClone = keys.get(i).deepClone(name, subst);
+            Expression valueClone = values.get(i).deepClone(name, subst);
+            result.keys.add(keyClone);
+            result.values.add(valueClone);
+        }
+        result.close();
+        return result;
+    }
+
+}
+
+
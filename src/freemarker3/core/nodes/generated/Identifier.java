@@ -0,0 +1,86 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for Identifier Token subclass
+* by the ASTToken.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import freemarker3.template.TemplateException;
+import java.util.List;
+import java.util.ArrayList;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class Identifier extends Token implements Expression {
+    private String name;
+    // Set by resolveSlot(): the innermost enclosing block that declares
+    // this variable, its slot in that block, and the blocks in between,
+    // none of which declares it.
+    private Block declaringBlock;
+    private int slot = -1;
+    private Block[] enclosingBlocks;
+
+    /**
+    * @return the variable name, interned, so that it can be matched
+    * against declared variables by identity and its hash code is
+    * computed only once.
+    */
+    public String getName() {
+        String result = name;
+        if (result == null) {
+            result = name = toString().intern();
+        }
+        return result;
+    }
+
+    public Object evaluate(Environment env) {
+        if (env == null) {
+            throw new TemplateException("Variables are not available " + "(certainly you are in a parse-time executed directive). The name of the variable " + "you tried to read: " + this, null);
+        }
+        if (declaringBlock != null) {
+            return env.getVariable(getName(), declaringBlock, slot, enclosingBlocks);
+        }
+        return env.getVariable(getName());
+    }
+
+    /**
+    * Works out which enclosing block declares this variable, if any,
+    * so that reading it can go to its slot rather than look the name
+    * up in every scope on the way.
+    */
+    public void resolveSlot() {
+        List<Block> blocks = new ArrayList<>();
+        for (Node node = getParent(); node != null; node = node.getParent()) {
+            if (node instanceof Block) {
+                Block block = (Block) node;
+                int slot = block.getSlot(getName());
+                if (slot >= 0) {
+                    this.declaringBlock = block;
+                    this.slot = slot;
+                    this.enclosingBlocks = blocks.toArray(new Block[blocks.size()]);
+                    return;
+                }
+                blocks.add(block);
+            }
+        }
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        if (this.toString().equals(name)) {
+            return subst.deepClone(null, null);
+        }
+        return this;
+    }
+
+    public boolean isAssignableTo() {
+        return true;
+    }
+
+    public Identifier(TokenType type, FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
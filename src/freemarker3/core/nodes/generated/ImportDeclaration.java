@@ -0,0 +1,90 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for ImportDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.log.Logger;
+import freemarker3.core.variables.InvalidReferenceException;
+import freemarker3.core.Environment;
+import freemarker3.template.TemplateException;
+import freemarker3.template.Template;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class ImportDeclaration extends TemplateNode implements TemplateElement {
+    private String templatePath = "";
+    private Template template;
+
+    //Inserted getter for template
+    public Template getTemplate() {
+        return template;
+    }
+
+    //Inserted setter for template
+    public void setTemplate(Template template) {
+        this.template = template;
+    }
+
+    public String getNamespace() {
+        return get(3).toString();
+    }
+
+    public Expression getTemplateNameExpression() {
+        return (Expression) get(1);
+    }
+
+    public void execute(Environment env) throws IOException {
+        String templateNameString = getTemplateNameExpression().getStringValue(env);
+        if (templateNameString == null) {
+            String msg = "Error " + getLocation() + "The expression " + getTemplateNameExpression() + " is undefined.";
+            throw new InvalidReferenceException(msg, env);
+        }
+        Template importedTemplate;
+        try {
+            if (templateNameString.indexOf("://") > 0) {
+            } else if (templateNameString.length() > 0 && templateNameString.charAt(0) == '/') {
+                int protIndex = templatePath.indexOf("://");
+                if (protIndex > 0) {
+                    templateNameString = templatePath.substring(0, protIndex + 2) + templateNameString;
+                } else {
+                    templateNameString = templateNameString.substring(1);
+                }
+            } else {
+                templateNameString = templatePath + templateNameString;
+            }
+            importedTemplate = env.getTemplateForImporting(templateNameString);
+        } catch (ParseException pe) {
+            String msg = "Error parsing imported template " + templateNameString;
+            Logger.getLogger("freemarker3.runtime").error(msg, pe);
+            throw new TemplateException(msg, pe, env);
+        } catch (IOException ioe) {
+            String msg = "Error reading imported file " + templateNameString;
+            throw new TemplateException(msg, ioe, env);
+        }
+        env.importLib(importedTemplate, getNamespace(), false);
+    }
+
+    public String getDescription() {
+        return "import " + getTemplateNameExpression() + " as " + getNamespace();
+    }
+
+    public String getTemplateName() {
+        return getTemplateNameExpression().toString();
+    }
+
+    public void close() {
+        if (template != null) {
+            String templatePath1 = template.getName();
+            int lastSlash = templatePath1.lastIndexOf('/');
+            templatePath = lastSlash == -1 ? "" : templatePath1.substring(0, lastSlash + 1);
+            template.addImport(this);
+        }
+    }
+
+}
+
+
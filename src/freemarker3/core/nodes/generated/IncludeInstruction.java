@@ -0,0 +1,100 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for IncludeInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import freemarker3.core.parser.ParseException;
+import freemarker3.core.variables.InvalidReferenceException;
+import freemarker3.core.Environment;
+import freemarker3.template.utility.StringUtil;
+import freemarker3.template.*;
+import freemarker3.cache.TemplateCache;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class IncludeInstruction extends TemplateNode implements TemplateElement {
+    private Template template;
+
+    //Inserted getter for template
+    public Template getTemplate() {
+        return template;
+    }
+
+    //Inserted setter for template
+    public void setTemplate(Template template) {
+        this.template = template;
+    }
+
+    public boolean useFreshNamespace() {
+        return get(0).getType() == EMBED;
+    }
+
+    private Expression encodingExp, parseExp;
+    private boolean frozen;
+
+    public Expression getParamByName(String name) {
+        for (Node n : this) {
+            if (n instanceof Identifier && n.toString().equalsIgnoreCase(name)) {
+                return (Expression) n.nextSibling().nextSibling();
+            }
+        }
+        return null;
+    }
+
+    public void freeze() {
+        encodingExp = getParamByName("encoding");
+        parseExp = getParamByName("parse");
+        frozen = true;
+    }
+
+    public void execute(Environment env) throws IOException {
+        String templateNameString = ((Expression) get(1)).getStringValue(env);
+        if (templateNameString == null) {
+            String msg = "Error " + getLocation() + "The expression " + get(1) + " is undefined.";
+            throw new InvalidReferenceException(msg, env);
+        }
+        String encoding = null;
+        Expression encodingExp = frozen ? this.encodingExp : getParamByName("encoding");
+        if (encodingExp != null) {
+            encoding = encodingExp.getStringValue(env);
+        }
+        boolean parse = true;
+        Expression parseExp = frozen ? this.parseExp : getParamByName("parse");
+        if (parseExp != null) {
+            Object tm = parseExp.evaluate(env);
+            parseExp.assertNonNull(tm, env);
+            if (tm instanceof CharSequence) {
+                parse = StringUtil.getYesNo(asString(tm));
+            } else {
+                parse = parseExp.isTrue(env);
+            }
+        }
+        Template includedTemplate;
+        String templatePath = "";
+        if (template != null) {
+            String templatePath1 = template.getName();
+            int lastSlash = templatePath1.lastIndexOf('/');
+            templatePath = lastSlash == -1 ? "" : templatePath1.substring(0, lastSlash + 1);
+        }
+        try {
+            //REVISIT
+            templateNameString = TemplateCache.getFullTemplatePath(env, templatePath, templateNameString);
+            includedTemplate = env.getTemplateForInclusion(templateNameString, encoding, parse);
+        } catch (ParseException pe) {
+            String msg = "Error parsing included template " + templateNameString + "\n" + pe.getMessage();
+            throw new TemplateException(msg, pe, env);
+        } catch (IOException ioe) {
+            String msg = "Error reading included file " + templateNameString;
+            throw new TemplateException(msg, ioe, env);
+        }
+        env.include(includedTemplate, useFreshNamespace());
+    }
+
+}
+
+
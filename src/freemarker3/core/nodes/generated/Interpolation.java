@@ -0,0 +1,48 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for Interpolation AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class Interpolation extends TemplateNode implements TemplateElement {
+    private Expression escapedExpression;
+
+    // This will be the same as the expression if we are not within an escape block.
+    public boolean isNoEscapeSet() {
+        return ((Token) get(0)).charAt(1) == '\\';
+    }
+
+    public void setEscapedExpression(Expression escapedExpression) {
+        this.escapedExpression = escapedExpression;
+    }
+
+    public Expression getEscapedExpression() {
+        if (escapedExpression == null || isNoEscapeSet()) return getExpression();
+        return this.escapedExpression;
+    }
+
+    public Expression getExpression() {
+        return firstChildOfType(Expression.class);
+    }
+
+    /**
+    * Outputs the string value of the enclosed expression.
+    */
+    public void execute(Environment env) throws IOException {
+        getEscapedExpression().writeValue(env, env.getOut());
+    }
+
+    public String getDescription() {
+        return this.getSource() + (getExpression() == escapedExpression || isNoEscapeSet() ? "" : " escaped ${" + escapedExpression.getDescription() + "}");
+    }
+
+}
+
+
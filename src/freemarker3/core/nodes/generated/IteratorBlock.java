@@ -0,0 +1,154 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for IteratorBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.asIterator;
+import static freemarker3.core.variables.Wrap.isIterable;
+import freemarker3.template.TemplateHashModel;
+import freemarker3.core.variables.scope.LoopContext;
+import freemarker3.core.variables.*;
+import freemarker3.core.*;
+import java.util.*;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class IteratorBlock extends TemplateNode implements TemplateElement {
+
+    public boolean isForeach() {
+        return get(0).getType() == FOREACH;
+    }
+
+    public boolean isOverMap() {
+        return firstChildOfType(COMMA) != null;
+    }
+
+    public String getIndexName() {
+        return isForeach() ? get(1).toString() : get(3).toString();
+    }
+
+    public String getValueVarName() {
+        Node comma = firstChildOfType(COMMA);
+        return comma == null ? null : comma.nextSibling().toString();
+    }
+
+    public Expression getListExpression() {
+        if (!isForeach()) return (Expression) get(1);
+        return isOverMap() ? (Expression) get(5) : (Expression) get(3);
+    }
+
+    /**
+    * @return the expression given for one of the options that
+    * follow the loop variables, such as <tt>parallel=true</tt>,
+    * or null if there is none.
+    */
+    public Expression getOption(String name) {
+        for (Node n : this) {
+            if (n instanceof Identifier && n.nextSibling() instanceof Token && ((Token) n.nextSibling()).getType() == EQUALS && n.toString().equals(name)) {
+                return (Expression) n.nextSibling().nextSibling();
+            }
+        }
+        return null;
+    }
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    // Until frozen, assume the body needs everything
+    private int loopFlags = LoopContext.EXPOSE_ALL;
+    private Expression parallelExp, chunkExp;
+
+    /**
+    * Works out which of the loop's implicit variables the body can
+    * refer to, so that the loop only sets those, and whether the body
+    * can get at its scope in ways that rule out reusing it across
+    * iterations. Strings containing interpolations are checked textually,
+    * since their content is not part of the tree.
+    */
+    public void freeze() {
+        int flags = 0;
+        String[] names = getValueVarName() == null ? new String[] {getIndexName()} : new String[] {getIndexName(),
+        getValueVarName()};
+        for (Node node : getNestedBlock().descendants()) {
+            if (node instanceof BuiltinVariable) {
+                flags = LoopContext.EXPOSE_ALL;
+                break;
+            }
+            if (node instanceof BuiltInExpression) {
+                String name = ((BuiltInExpression) node).getName();
+                if (name.equals("eval") || name.equals("interpret")) {
+                    flags = LoopContext.EXPOSE_ALL;
+                    break;
+                }
+            }
+            if (node instanceof Identifier || node instanceof StringLiteral) {
+                String text = node.toString();
+                for (String name : names) {
+                    if (node instanceof Identifier ? text.equals(name + "_has_next") : text.contains(name + "_has_next")) {
+                        flags |= LoopContext.EXPOSE_HAS_NEXT;
+                    }
+                    if (node instanceof Identifier ? text.equals(name + "_index") : text.contains(name + "_index")) {
+                        flags |= LoopContext.EXPOSE_INDEX;
+                    }
+                }
+            }
+        }
+        loopFlags = flags;
+        parallelExp = getOption("parallel");
+        chunkExp = getOption("chunk");
+    }
+
+    private int getChunkSize(Environment env) {
+        if (chunkExp == null) {
+            return DEFAULT_CHUNK_SIZE;
+        }
+        Object chunk = chunkExp.evaluate(env);
+        chunkExp.assertNonNull(chunk, env);
+        if (!(chunk instanceof Number)) {
+            throw TemplateNode.invalidTypeException(chunk, chunkExp, env, "number");
+        }
+        int chunkSize = ((Number) chunk).intValue();
+        if (chunkSize < 1) {
+            throw new EvaluationException("The chunk size of a parallel list must be positive, at " + chunkExp.getLocation());
+        }
+        return chunkSize;
+    }
+
+    public void execute(Environment env) throws IOException {
+        Object listVar = getListExpression().evaluate(env);
+        getListExpression().assertNonNull(listVar, env);
+        if (!isOverMap()) {
+            if (!isIterable(listVar)) {
+                throw TemplateNode.invalidTypeException(listVar, getListExpression(), env, "collection or sequence");
+            }
+            List<?> list = null;
+            if (listVar instanceof List && listVar instanceof RandomAccess) {
+                list = (List<?>) listVar;
+            } else if (listVar instanceof Object[]) {
+                list = Arrays.asList((Object[]) listVar);
+            }
+            if (list != null) {
+                if (parallelExp != null && parallelExp.isTrue(env)) {
+                    env.processInParallel(list, getNestedBlock(), getIndexName(), loopFlags, getChunkSize(env));
+                } else {
+                    env.process(list, getNestedBlock(), getIndexName(), loopFlags);
+                }
+            } else {
+                env.process(asIterator(listVar), getNestedBlock(), getIndexName(), loopFlags);
+            }
+        } else if (listVar instanceof Map || listVar instanceof TemplateHashModel) {
+            env.process(listVar, getNestedBlock(), getIndexName(), getValueVarName(), loopFlags);
+        } else {
+            String message = "Expecting map or hash, at " + getListExpression().getLocation();
+            throw new EvaluationException(message);
+        }
+    }
+
+    public String getDescription() {
+        return isForeach() ? "foreach " + getIndexName() + (getValueVarName() == null ? "" : "," + getValueVarName()) + " in " + getListExpression() : "list " + getListExpression() + " as " + getIndexName() + (getValueVarName() == null ? "" : "," + getValueVarName());
+    }
+
+}
+
+
@@ -0,0 +1,66 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for ListLiteral AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.variables.scope.Scope;
+import freemarker3.template.TemplateException;
+import freemarker3.core.Environment;
+import java.util.List;
+import java.util.ArrayList;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class ListLiteral extends TemplateNode implements Expression {
+
+    public List<Expression> getElements() {
+        return childrenOfType(Expression.class);
+    }
+
+    public Object evaluate(Environment env) {
+        List<Object> result = new ArrayList<>();
+        for (Expression exp : getElements()) {
+            Object tm = exp.evaluate(env);
+            assertIsDefined(tm, env);
+            result.add(tm);
+        }
+        return result;
+    }
+
+    // A hacky routine used by VisitNode and RecurseNode
+    public List evaluateStringsToNamespaces(Environment env) {
+        List result = new ArrayList();
+        for (Expression exp : getElements()) {
+            if (exp instanceof StringLiteral) {
+                String s = ((StringLiteral) exp).getAsString();
+                try {
+                    Scope ns = env.importLib(s, null);
+                    result.add(ns);
+                } catch (IOException ioe) {
+                    throw new TemplateException("Could not import library '" + s + "', " + ioe.getMessage(), env);
+                }
+            } else {
+                result.add(exp);
+            }
+        }
+        return result;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        ListLiteral result = new ListLiteral();
+        for (Node node : this) {
+            if (node instanceof Expression) {
+                node = ((Expression) node).deepClone(name, subst);
+            }
+            result.add(node);
+        }
+        return result;
+    }
+
+}
+
+
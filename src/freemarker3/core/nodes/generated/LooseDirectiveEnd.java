@@ -0,0 +1,15 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for LooseDirectiveEnd AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class LooseDirectiveEnd extends TemplateNode {
+}
+
+
@@ -0,0 +1,97 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for Macro AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.variables.WrappedVariable;
+import freemarker3.core.nodes.ParameterList;
+import freemarker3.core.Environment;
+import freemarker3.core.CompiledBlock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class Macro extends TemplateNode implements TemplateElement, WrappedVariable {
+    static public final Macro DO_NOTHING_MACRO = new Macro();
+    static {
+        DO_NOTHING_MACRO.add(new Block());
+    }
+    private final AtomicInteger executionCount = new AtomicInteger();
+    private final AtomicBoolean compiled = new AtomicBoolean();
+
+    /**
+    * Called on every invocation. A macro that is called often enough
+    * is compiled on its own, even if the template that defines it is not.
+    * The invocation that compiles it is the first to find the count at
+    * or past the threshold, so lowering the threshold still works.
+    */
+    public void recordExecution() {
+        if (compiled.get()) return;
+        int threshold = getTemplate().getConfiguration().getCompileThreshold();
+        if (threshold > 0 && executionCount.incrementAndGet() >= threshold && compiled.compareAndSet(false, true)) {
+            CompiledBlock.compileTree(this);
+        }
+    }
+
+    public int getExecutionCount() {
+        return executionCount.get();
+    }
+
+    private boolean parallelSafe;
+
+    /**
+    * @return whether this is a function that can be called within a
+    * parallel list, as worked out when the template was parsed
+    */
+    public boolean isParallelSafe() {
+        return parallelSafe;
+    }
+
+    public void setParallelSafe(boolean parallelSafe) {
+        this.parallelSafe = parallelSafe;
+    }
+
+    public boolean isFunction() {
+        return get(0).getType() == FUNCTION;
+    }
+
+    public String getName() {
+        if (this == DO_NOTHING_MACRO) {
+            return ".pass";
+        }
+        if (get(1) instanceof Identifier) {
+            return get(1).toString();
+        }
+        return ((StringLiteral) get(1)).getAsString();
+    }
+
+    public ParameterList getParams() {
+        return firstChildOfType(ParameterList.class);
+    }
+
+    public void close() {
+        ParameterList params = getParams();
+        for (String paramName : params.getParams()) {
+            getNestedBlock().declareVariable(paramName);
+        }
+        String catchallVar = params.getCatchAll();
+        if (catchallVar != null) {
+            getNestedBlock().declareVariable(catchallVar);
+        }
+    }
+
+    public void execute(Environment env) {
+        env.visitMacroDef(this);
+    }
+
+    public String getDescription() {
+        return (isFunction() ? "function " : "macro ") + getName();
+    }
+
+}
+
+
@@ -0,0 +1,28 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for NoEscapeBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class NoEscapeBlock extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) throws IOException {
+        if (firstChildOfType(TemplateElement.class) != null) {
+            env.render(firstChildOfType(TemplateElement.class));
+        }
+    }
+
+    public String getDescription() {
+        return "noescape block";
+    }
+
+}
+
+
@@ -0,0 +1,35 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for NoParseBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class NoParseBlock extends TemplateNode implements TemplateElement {
+
+    public void execute(Environment env) throws IOException {
+        String source = getSource();
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) == '>' || source.charAt(i) == ']') {
+                source = source.substring(i + 1);
+                break;
+            }
+        }
+        for (int i = source.length() - 1; i >= 0; i--) {
+            if (source.charAt(i) == '<' || source.charAt(i) == '[') {
+                source = source.substring(0, i);
+                break;
+            }
+        }
+        env.getOut().write(source);
+    }
+
+}
+
+
@@ -0,0 +1,29 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for NullLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.JAVA_NULL;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class NullLiteral extends Literal implements Expression {
+
+    public Object evaluate(Environment env) {
+        return JAVA_NULL;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        return this;
+    }
+
+    public NullLiteral(TokenType type, FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
@@ -0,0 +1,51 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for NumberLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import java.math.BigDecimal;
+import freemarker3.template.Template;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class NumberLiteral extends Literal implements Expression {
+    private Number value;
+
+    //Inserted getter for value
+    public Number getValue() {
+        return value;
+    }
+
+    //Inserted setter for value
+    public void setValue(Number value) {
+        this.value = value;
+    }
+
+    public Object evaluate(Environment env) {
+        return getValue();
+    }
+
+    public String getStringValue(Environment env) {
+        return env.formatNumber(getValue());
+    }
+
+    public void close() {
+        String s = toString();
+        Template template = getTemplate();
+        value = template != null ? template.getArithmeticEngine().toNumber(s) : new BigDecimal(s);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        return this;
+    }
+
+    public NumberLiteral(TokenType type, FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
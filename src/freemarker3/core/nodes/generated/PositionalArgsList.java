@@ -0,0 +1,94 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for PositionalArgsList AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.nodes.ParameterList;
+import freemarker3.core.variables.*;
+import freemarker3.core.Environment;
+import java.util.*;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class PositionalArgsList extends ArgsList {
+    private Expression[] args;
+
+    public void freeze() {
+        args = childrenOfType(Expression.class).toArray(new Expression[0]);
+    }
+
+    private Expression[] getArgExpressions() {
+        Expression[] result = args;
+        if (result == null) {
+            // Not frozen, i.e. built outside of the template parser
+            result = childrenOfType(Expression.class).toArray(new Expression[0]);
+        }
+        return result;
+    }
+
+    public int getArgCount() {
+        return getArgExpressions().length;
+    }
+
+    /**
+    * @return the values of the arguments, for a target that
+    * takes them as they are.
+    */
+    public Object[] getArgValues(Environment env) {
+        Expression[] args = getArgExpressions();
+        Object[] result = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            result[i] = args[i].evaluate(env);
+        }
+        return result;
+    }
+
+    public List getParameterSequence(Object target, Environment env) {
+        ParameterList annotatedParameterList = getParameterList(target);
+        if (annotatedParameterList == null) {
+            Expression[] args = getArgExpressions();
+            List<Object> result = new ArrayList<>(args.length);
+            for (Expression exp : args) {
+                result.add(exp.evaluate(env));
+            }
+            return result;
+        }
+        return annotatedParameterList.getParameterSequence(this, env);
+    }
+
+    public Map<String, Object> getParameterMap(Object target, Environment env) {
+        Map<String, Object> result = new HashMap<String, Object>();
+        ParameterList annotatedParameterList = getParameterList(target);
+        if (annotatedParameterList == null) {
+            if (getArgCount() != 0) {
+                throw new EvaluationException("Cannot pass positional arguments to this UserDirective");
+            }
+        } else {
+            result = annotatedParameterList.getParameterMap(this, env, false);
+        }
+        return result;
+    }
+
+    public Object getValueAt(int i, Environment env) {
+        Expression exp = getArgExpressions()[i];
+        Object value = exp.evaluate(env);
+        exp.assertIsDefined(value, env);
+        return value;
+    }
+
+    public PositionalArgsList deepClone(String name, Expression subst) {
+        PositionalArgsList result = new PositionalArgsList();
+        for (Node node : this) {
+            if (node instanceof Expression) {
+                node = ((Expression) node).deepClone(name, subst);
+            }
+            result.add(node);
+        }
+        return result;
+    }
+
+}
+
+
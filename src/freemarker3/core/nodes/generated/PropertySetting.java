@@ -0,0 +1,45 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for PropertySetting AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class PropertySetting extends TemplateNode implements TemplateElement {
+
+    public String getKey() {
+        return firstChildOfType(ID).toString();
+    }
+
+    public Expression getValue() {
+        return (Expression) get(3);
+    }
+
+    public void execute(Environment env) {
+        Object mval = getValue().evaluate(env);
+        String strval;
+        if (mval instanceof CharSequence) {
+            strval = asString(mval);
+        } else if (isBoolean(mval)) {
+            strval = asBoolean(mval) ? "true" : "false";
+        } else if (mval instanceof Number) {
+            strval = ((Number) mval).toString();
+        } else {
+            strval = getValue().getStringValue(env);
+        }
+        env.setSetting(getKey(), strval);
+    }
+
+    public String getDescription() {
+        return "setting " + getKey() + " set to " + "\"" + getValue() + "\" " + "[" + getLocation() + "]";
+    }
+
+}
+
+
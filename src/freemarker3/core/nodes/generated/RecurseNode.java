@@ -0,0 +1,66 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for RecurseNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.asString;
+import static freemarker3.core.variables.Wrap.isList;
+import freemarker3.core.variables.*;
+import freemarker3.core.variables.scope.Scope;
+import freemarker3.core.Environment;
+import freemarker3.template.TemplateException;
+import java.util.List;
+import java.util.ArrayList;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class RecurseNode extends TemplateNode implements TemplateElement {
+
+    public Expression getTargetNode() {
+        if (get(1) instanceof Expression) {
+            return (Expression) get(1);
+        }
+        return null;
+    }
+
+    public Expression getNamespaces() {
+        Node using = firstChildOfType(USING);
+        return using == null ? null : (Expression) using.nextSibling();
+    }
+
+    public void execute(Environment env) throws IOException {
+        Expression targetNode = getTargetNode();
+        Expression namespaces = getNamespaces();
+        Object node = targetNode == null ? null : targetNode.evaluate(env);
+        Object nss = namespaces == null ? null : namespaces.evaluate(env);
+        if (namespaces instanceof StringLiteral) {
+            nss = env.importLib(asString(nss), null);
+        } else if (namespaces instanceof ListLiteral) {
+            nss = ((ListLiteral) namespaces).evaluateStringsToNamespaces(env);
+        }
+        if (node != null && !(node instanceof WrappedNode)) {
+            throw new TemplateException("Expecting an XML node here, for expression: " + targetNode + ", found a: " + node.getClass().getName(), env);
+        }
+        if (nss != null) {
+            if (nss instanceof Scope) {
+                List<Scope> ss = new ArrayList<>();
+                ss.add((Scope) nss);
+                nss = ss;
+            } else if (!isList(nss)) {
+                throw new TemplateException("Expecting a sequence of namespaces after 'using'", env);
+            }
+        }
+        env.process((WrappedNode) node, (List<Scope>) nss);
+    }
+
+    public String getDescription() {
+        return "recurse instruction";
+    }
+
+}
+
+
@@ -0,0 +1,39 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for ReturnInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.ReturnException;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class ReturnInstruction extends TemplateNode implements TemplateElement {
+
+    public Object getReturnValue(Environment env) {
+        if (!(get(1) instanceof Expression)) return null;
+        return ((Expression) get(1)).evaluate(env);
+    }
+
+    public void execute(Environment env) {
+        env.setLastReturnValue(getReturnValue(env));
+        if (nextSibling() != null) {
+            // We need to jump out using an exception.
+            throw ReturnException.INSTANCE;
+        }
+        if (!(getParent() instanceof Macro || getParent().getParent() instanceof Macro)) {
+            // Here also, we need to jump out using an exception.
+            throw ReturnException.INSTANCE;
+        }
+    }
+
+    public String getDescription() {
+        return "return" + " [" + getLocation() + "]";
+    }
+
+}
+
+
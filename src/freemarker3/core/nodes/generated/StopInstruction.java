@@ -0,0 +1,30 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for StopInstruction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.AssertionFailedException;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class StopInstruction extends TemplateNode implements TemplateElement {
+
+    public String getMessage(Environment env) {
+        return get(1) instanceof Expression ? ((Expression) get(1)).getStringValue(env) : "";
+    }
+
+    public void execute(Environment env) {
+        throw new AssertionFailedException(env, getMessage(env));
+    }
+
+    public String getDescription() {
+        return "stop" + " [" + getLocation() + "]";
+    }
+
+}
+
+
@@ -0,0 +1,98 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for StringLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.template.utility.StringUtil.FTLStringLiteralDec;
+import java.io.IOException;
+import freemarker3.core.Environment;
+import freemarker3.template.TemplateExceptionHandler;
+import freemarker3.template.TemplateException;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class StringLiteral extends Literal implements Expression {
+    private TemplateElement interpolatedOutput;
+    private String value;
+
+    public boolean isRaw() {
+        return charAt(0) == 'r';
+    }
+
+    /**
+    * @return whether the string contains interpolations, so that
+    * its value depends on the data model.
+    */
+    public boolean isInterpolated() {
+        return interpolatedOutput != null;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void close() {
+        String s = toString();
+        s = s.substring(1, s.length() - 1);
+        if (isRaw()) s = s.substring(1);
+        if (!isRaw()) s = FTLStringLiteralDec(s);
+        this.value = s;
+    }
+
+    public void checkInterpolation() {
+        String src = toString();
+        if (src.length() > 5 && (src.indexOf("${") >= 0)) {
+            FMLexer token_source = new FMLexer("input", value, FMLexer.LexicalState.DEFAULT, getBeginLine(), getBeginColumn() + 1);
+            //token_source.setOnlyTextOutput(true);
+            FMParser parser = new FMParser(token_source);
+            parser.setTemplate(getTemplate());
+            try {
+                interpolatedOutput = parser.FreeMarkerText();
+            } catch (ParseException e) {
+                e.setTemplateName(getTemplate().getName());
+                throw e;
+            }
+        }
+    }
+
+    public Object evaluate(Environment env) {
+        return getStringValue(env);
+    }
+
+    public String getAsString() {
+        return value;
+    }
+
+    public String getStringValue(Environment env) {
+        if (interpolatedOutput == null) {
+            return value;
+        } else {
+            TemplateExceptionHandler teh = env.getTemplateExceptionHandler();
+            env.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+            try {
+                return env.renderElementToString(interpolatedOutput);
+            } catch (IOException ioe) {
+                throw new TemplateException(ioe, env);
+            } finally {
+                env.setTemplateExceptionHandler(teh);
+            }
+        }
+    }
+
+    public boolean isAssignableTo() {
+        return true;
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        return this;
+    }
+
+    public StringLiteral(TokenType type, FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
@@ -0,0 +1,59 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for SwitchBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.*;
+import freemarker3.template.TemplateException;
+import freemarker3.core.BreakException;
+import freemarker3.core.Environment;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class SwitchBlock extends TemplateNode implements TemplateElement {
+    private Expression testExpression;
+    private CaseBlock[] cases;
+    private boolean frozen;
+
+    public void freeze() {
+        testExpression = firstChildOfType(Expression.class);
+        cases = childrenOfType(CaseBlock.class).toArray(new CaseBlock[0]);
+        frozen = true;
+    }
+
+    public void execute(Environment env) throws IOException {
+        Expression testExpression = frozen ? this.testExpression : firstChildOfType(Expression.class);
+        CaseBlock[] cases = frozen ? this.cases : childrenOfType(CaseBlock.class).toArray(new CaseBlock[0]);
+        boolean foundMatch = false;
+        Object testValue = testExpression.evaluate(env);
+        try {
+            for (CaseBlock cb : cases) {
+                if (foundMatch) {
+                    cb.execute(env);
+                } else {
+                    Expression testExp = cb.getExpression();
+                    foundMatch = testExp == null || equals(env, testValue, testExp.evaluate(env));
+                    if (foundMatch) cb.execute(env);
+                }
+            }
+        } catch (BreakException be) {
+        }
+    }
+
+    private boolean equals(Environment env, Object first, Object second) {
+        if (first instanceof Number && second instanceof Number) {
+            return ((Number) first).equals((Number) second);
+        }
+        if (first instanceof CharSequence && second instanceof CharSequence) {
+            return asString(first).equals(asString(second));
+        }
+        throw new TemplateException("Can only compare numbers and strings", env);
+    }
+
+}
+
+
@@ -0,0 +1,36 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for TemplateElement AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.Environment;
+import java.io.IOException;
+import java.util.*;
+import freemarker3.core.parser.*;
+
+
+public interface TemplateElement extends Node {
+
+    /**
+    * Processes the contents of this <tt>TemplateElement</tt> and
+    * outputs the resulting text
+    *
+    * @param env The runtime environment
+    */
+    void execute(Environment env) throws IOException;
+
+    String getDescription();
+
+    default Block getNestedBlock() {
+        if (this instanceof Block) return (Block) this;
+        return firstChildOfType(Block.class);
+    }
+
+    default boolean isIgnorable() {
+        return false;
+    }
+
+}
+
+
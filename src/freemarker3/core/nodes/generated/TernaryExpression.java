@@ -0,0 +1,38 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for TernaryExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.NOTHING;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class TernaryExpression extends TemplateNode implements Expression {
+
+    public Object evaluate(Environment env) {
+        Expression condition = (Expression) get(0);
+        Expression trueChoice = (Expression) get(2);
+        Expression falseChoice = size() > 4 ? (Expression) get(4) : null;
+        if (condition.isTrue(env)) {
+            return trueChoice.evaluate(env);
+        }
+        return falseChoice == null ? NOTHING : falseChoice.evaluate(env);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        TernaryExpression result = new TernaryExpression();
+        result.add(((Expression) get(0)).deepClone(name, subst));
+        result.add(get(1));
+        result.add(((Expression) get(2)).deepClone(name, subst));
+        result.add(get(3));
+        result.add(((Expression) get(4)).deepClone(name, subst));
+        return result;
+    }
+
+}
+
+
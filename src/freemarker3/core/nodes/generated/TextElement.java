@@ -0,0 +1,76 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for TextElement AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.core.nodes.AssignmentInstruction;
+import freemarker3.core.nodes.Whitespace;
+import freemarker3.core.StaticText;
+import freemarker3.core.ByteSinkWriter;
+import freemarker3.core.Environment;
+import java.nio.charset.Charset;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class TextElement extends TemplateNode implements TemplateElement {
+    private String outputText;
+
+    public String getOutputText() {
+        if (outputText != null) {
+            return outputText;
+        }
+        if (firstChildOfType(Printable.class) == null && ignoresSandwichedWhitespace(previousSibling()) && ignoresSandwichedWhitespace(nextSibling())) {
+            return outputText = "";
+        }
+        StringBuilder buf = new StringBuilder();
+        for (Node n : this) {
+            if (!(n instanceof Whitespace) || !((Whitespace) n).isIgnored()) {
+                buf.append(n.toString());
+            }
+        }
+        return outputText = buf.toString();
+    }
+
+    /**
+    * Appends the output text of the element that follows this one,
+    * which the caller then takes out of the tree. The output text
+    * of both elements must have been worked out beforehand, since
+    * it depends on their siblings.
+    */
+    public void absorb(TextElement next) {
+        outputText = getOutputText() + next.getOutputText();
+        setEndOffset(next.getEndOffset());
+    }
+
+    private StaticText staticText;
+
+    /**
+    * Captures the output text, and if the output charset is known,
+    * and can be encoded a run at a time, encodes it ahead of time.
+    */
+    public void freeze(Charset outputCharset) {
+        staticText = new StaticText(getOutputText());
+        if (outputCharset != null && ByteSinkWriter.isEncodedByHand(outputCharset)) {
+            staticText.getBytes(outputCharset);
+        }
+    }
+
+    public void execute(Environment env) throws IOException {
+        if (staticText != null) {
+            staticText.write(env.getOut());
+        } else {
+            env.getOut().write(getOutputText());
+        }
+    }
+
+    private boolean ignoresSandwichedWhitespace(Node elem) {
+        return (elem instanceof Macro) || (elem instanceof AssignmentInstruction) || (elem instanceof BlockAssignment) || (elem instanceof VarDirective) || (elem instanceof ImportDeclaration) || (elem instanceof ExecInstruction) || (elem instanceof PropertySetting);
+    }
+
+}
+
+
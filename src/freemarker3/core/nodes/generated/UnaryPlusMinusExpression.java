@@ -0,0 +1,51 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for UnaryPlusMinusExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.template.TemplateException;
+import freemarker3.core.variables.*;
+import freemarker3.core.ArithmeticEngine;
+import freemarker3.core.Environment;
+import freemarker3.core.parser.*;
+import java.util.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class UnaryPlusMinusExpression extends TemplateNode implements Expression {
+    private static final Integer MINUS_ONE = Integer.valueOf(- 1);
+
+    public Expression getTarget() {
+        return firstChildOfType(Expression.class);
+    }
+
+    public boolean isMinus() {
+        return get(0).getType() == MINUS;
+    }
+
+    public Object evaluate(Environment env) {
+        Number value = null;
+        try {
+            value = (Number) getTarget().evaluate(env);
+        } catch (ClassCastException cce) {
+            String msg = "Error " + getLocation();
+            msg += "\nExpression " + getTarget() + " is not numerical.";
+            throw new TemplateException(msg, env);
+        }
+        if (!isMinus()) {
+            return value;
+        }
+        return ArithmeticEngine.CONSERVATIVE_ENGINE.multiply(MINUS_ONE, value);
+    }
+
+    public Expression _deepClone(String name, Expression subst) {
+        UnaryPlusMinusExpression result = new UnaryPlusMinusExpression();
+        result.add(get(0));
+        result.add(getTarget().deepClone(name, subst));
+        return result;
+    }
+
+}
+
+
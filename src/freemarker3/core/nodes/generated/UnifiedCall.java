@@ -0,0 +1,94 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for UnifiedCall AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import freemarker3.template.TemplateException;
+import freemarker3.core.variables.UserDirective;
+import freemarker3.core.nodes.ParameterList;
+import freemarker3.core.Environment;
+import java.util.*;
+import java.io.IOException;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class UnifiedCall extends TemplateNode implements TemplateElement {
+
+    public Expression getNameExp() {
+        return (Expression) get(1);
+    }
+
+    private ArgsList args;
+    private ParameterList bodyParameters;
+    private Block body;
+    private boolean frozen;
+
+    public ArgsList getArgs() {
+        if (frozen) return args;
+        ArgsList result = firstChildOfType(ArgsList.class);
+        if (result == null) result = new PositionalArgsList();
+        return result;
+    }
+
+    public ParameterList getBodyParameters() {
+        if (frozen) return bodyParameters;
+        return firstChildOfType(ParameterList.class);
+    }
+
+    public void freeze() {
+        args = getArgs();
+        bodyParameters = getBodyParameters();
+        body = firstChildOfType(Block.class);
+        frozen = true;
+    }
+
+    public void close() {
+        ParameterList bodyParameters = getBodyParameters();
+        if (bodyParameters != null) {
+            for (String paramName : bodyParameters.getParams()) {
+                getNestedBlock().declareVariable(paramName);
+            }
+            String catchallParam = bodyParameters.getCatchAll();
+            if (catchallParam != null) {
+                getNestedBlock().declareVariable(catchallParam);
+            }
+        }
+    }
+
+    public void execute(Environment env) throws IOException {
+        Expression nameExp = getNameExp();
+        Object tm = nameExp.evaluate(env);
+        ArgsList args = getArgs();
+        ParameterList bodyParameters = getBodyParameters();
+        if (tm == Macro.DO_NOTHING_MACRO) return;
+        // shortcut here.
+        if (tm instanceof Macro) {
+            Macro macro = (Macro) tm;
+            if (macro.isFunction()) {
+                throw new TemplateException("Routine " + macro.getName() + " is a function. A function can only be called " + "within the evaluation of an expression.", env);
+            }
+            env.render(macro, args, bodyParameters, frozen ? body : firstChildOfType(Block.class));
+        } else if (tm instanceof UserDirective) {
+            Map<String, Object> argMap = args != null ? args.getParameterMap(tm, env) : new HashMap<String, Object>();
+            List<String> paramNames;
+            if (bodyParameters == null) {
+                paramNames = Collections.emptyList();
+            } else {
+                paramNames = bodyParameters.getParamNames();
+            }
+            env.render(frozen ? body : firstChildOfType(Block.class), (UserDirective) tm, argMap, paramNames);
+        } else {
+            nameExp.assertNonNull(tm, env);
+            throw new TemplateException(getLocation() + ": " + getNameExp() + " is not a user-defined directive.", env);
+        }
+    }
+
+    public String getDescription() {
+        return "user-directive " + getNameExp();
+    }
+
+}
+
+
@@ -0,0 +1,58 @@
+/* Generated by: CongoCC Parser Generator. Do not edit.
+* Generated Code for VarDirective AST Node type
+* by the ASTNode.java.ftl template
+*/
+package freemarker3.core.nodes.generated;
+
+import static freemarker3.core.variables.Wrap.JAVA_NULL;
+import freemarker3.core.variables.scope.Scope;
+import freemarker3.core.*;
+import java.util.*;
+import freemarker3.core.parser.*;
+import static freemarker3.core.parser.Token.TokenType.*;
+
+
+public class VarDirective extends TemplateNode implements TemplateElement {
+    private Map<String, Expression> vars = new LinkedHashMap<>();
+
+    public void execute(Environment env) {
+        for (Map.Entry<String, Expression> entry : vars.entrySet()) {
+            String varname = entry.getKey();
+            Expression exp = entry.getValue();
+            Scope scope = env.getCurrentScope();
+            //System.out.println("The current scope is " + scope);
+            if (exp == null) {
+                if (scope.get(varname) == null) {
+                    scope.put(varname, JAVA_NULL);
+                }
+            } else {
+                Object tm = exp.evaluate(env);
+                exp.assertIsDefined(tm, env);
+                scope.put(varname, tm);
+            }
+        }
+    }
+
+    public Map<String, Expression> getVariables() {
+        return Collections.unmodifiableMap(vars);
+    }
+
+    public void addVar(Expression name, Expression value) {
+        String varname = name.toString();
+        if (name instanceof StringLiteral) {
+            varname = ((StringLiteral) name).getAsString();
+        }
+        vars.put(varname, value);
+    }
+
+    public void addVar(String name) {
+        vars.put(name, null);
+    }
+
+    public String getDescription() {
+        return "variable declaration";
+    }
+
+}
+
+
@@ -0,0 +1,16 @@
+/* Generated by: CongoCC Parser Generator. InvalidToken.java  */
+package freemarker3.core.parser;
+
+
+/**
+* Token subclass to represent lexically invalid input
+*/
+public class InvalidToken extends Token {
+
+    public InvalidToken(FMLexer tokenSource, int beginOffset, int endOffset) {
+        super(TokenType.INVALID, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
@@ -0,0 +1,132 @@
+package freemarker3.core.variables;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * A cache for the Java methods called by a single method call
+ * expression, such as <tt>order.total(currency)</tt>. It is keyed by
+ * the class of the object the method is called on, and the classes of
+ * the arguments, and it remembers the method that such a call resolves
+ * to, along with a converter for each argument, so that a call that hits
+ * does no overload resolution and no unwrapping by trial and error.
+ * Like {@link PropertyCache}, it remembers up to {@link #MAX_ENTRIES}
+ * such combinations, after which the call site is taken to be
+ * megamorphic and {@link JavaMethodCall#apply(Object...)} is used
+ * from then on. It does no locking either.
+ * Calls with a wrapped argument, and calls of methods with variable
+ * arguments, always go through {@link JavaMethodCall}.
+ */
+public final class CallSiteCache {
+
+    static final int MAX_ENTRIES = 4;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private volatile Entry[] entries = EMPTY;
+    private volatile boolean megamorphic;
+
+    public Object invoke(JavaMethodCall call, Object[] params) {
+        if (!megamorphic) {
+            Object target = call.getTarget();
+            String methodName = call.getMethodName();
+            Entry[] entries = this.entries;
+            for (Entry entry : entries) {
+                if (entry.matches(target, methodName, params)) {
+                    return entry.invoke(target, params);
+                }
+            }
+            if (entries.length < MAX_ENTRIES) {
+                Class<?>[] argTypes = Entry.argTypes(params);
+                if (argTypes != null) {
+                    Method method = call.getMethod(params);
+                    if (!Entry.isCacheable(method, params)) {
+                        // Don't resolve the overload all over again.
+                        return call.invoke(method, params);
+                    }
+                    Entry entry = new Entry(target, methodName, argTypes, method);
+                    Entry[] newEntries = new Entry[entries.length + 1];
+                    System.arraycopy(entries, 0, newEntries, 0, entries.length);
+                    newEntries[entries.length] = entry;
+                    this.entries = newEntries;
+                    return entry.invoke(target, params);
+                }
+            } else {
+                megamorphic = true;
+                this.entries = EMPTY;
+            }
+        }
+        return call.apply(params);
+    }
+
+    private static final class Entry {
+        final Class<?> type;
+        final String methodName;
+        final Class<?>[] argTypes;
+        final ClassAccessors.Invoker invoker;
+        final Function<Object, Object>[] converters;
+
+        @SuppressWarnings("unchecked")
+        private Entry(Object target, String methodName, Class<?>[] argTypes, Method method) {
+            this.type = target.getClass();
+            this.methodName = methodName;
+            this.argTypes = argTypes;
+            this.invoker = ClassAccessors.of(target).getInvoker(method);
+            Class<?>[] paramTypes = method.getParameterTypes();
+            converters = new Function[paramTypes.length];
+            for (int i = 0; i < paramTypes.length; i++) {
+                converters[i] = ReflectionCode.getConverter(argTypes[i], paramTypes[i]);
+            }
+        }
+
+        /**
+         * @return the classes of the arguments, which an entry is keyed
+         * by, or null if calls with such arguments can't be cached.
+         */
+        static Class<?>[] argTypes(Object[] params) {
+            Class<?>[] argTypes = new Class<?>[params.length];
+            for (int i = 0; i < params.length; i++) {
+                Object param = params[i];
+                if (param instanceof WrappedVariable) {
+                    // The method is chosen by the class of what it wraps.
+                    return null;
+                }
+                argTypes[i] = param == null ? null : param.getClass();
+            }
+            return argTypes;
+        }
+
+        /**
+         * @return whether calls that resolve to the method can be cached
+         */
+        static boolean isCacheable(Method method, Object[] params) {
+            return !method.isVarArgs()
+                && method.getParameterCount() == params.length
+                && !ReflectionCode.isBannedMethod(method);
+        }
+
+        boolean matches(Object target, String methodName, Object[] params) {
+            if (target.getClass() != type || params.length != argTypes.length) {
+                return false;
+            }
+            if (this.methodName != methodName && !this.methodName.equals(methodName)) {
+                return false;
+            }
+            for (int i = 0; i < params.length; i++) {
+                Object param = params[i];
+                if ((param == null ? null : param.getClass()) != argTypes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Object invoke(Object target, Object[] params) {
+            Object[] args = new Object[params.length];
+            for (int i = 0; i < params.length; i++) {
+                args[i] = converters[i].apply(params[i]);
+            }
+            return ReflectionCode.invoke(invoker, target, args);
+        }
+    }
+}
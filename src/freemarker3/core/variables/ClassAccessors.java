@@ -0,0 +1,322 @@
+package freemarker3.core.variables;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.SoftReference;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What {@link ReflectionCode} knows about one class: its public methods
+ * by name, and the getters, setters and overloads that have been looked
+ * up on it so far, which are called through method handles.
+ * A lookup on an object starts from its class rather than from a
+ * string built out of the class name.
+ *
+ * <p>Where the tables are kept depends on the class's loader, since they
+ * refer to FreeMarker's own classes, and must not keep FreeMarker's loader
+ * (a web application's, say) alive for longer than it would be anyway:
+ * <ul>
+ * <li>For a class of FreeMarker's loader or one of its descendants, they
+ * are held in a <tt>ClassValue</tt>, so they go away along with the class,
+ * which can't outlive FreeMarker's loader anyway.</li>
+ * <li>For a class of an ancestor loader, such as a JDK class, a
+ * <tt>ClassValue</tt> entry would live in a class that outlives FreeMarker
+ * and keep its loader from being unloaded (see JDK-8136353), so they are
+ * held in a map of FreeMarker's instead, which goes away with it.</li>
+ * <li>For a class of an unrelated loader, they are held in a map with weak
+ * keys and soft values, so that neither side keeps the other alive.</li>
+ * </ul>
+ * The overloads and setters are chosen by the classes of the arguments.
+ * Only the choices where those classes are visible to the class's own
+ * loader are remembered, so that the tables of, say, a JDK class
+ * never keep a class of a web application from being unloaded.
+ */
+final class ClassAccessors {
+
+    private static final ClassValue<ClassAccessors> FOR_CLASS = new ClassValue<ClassAccessors>() {
+        protected ClassAccessors computeValue(Class<?> type) {
+            return new ClassAccessors(type);
+        }
+    };
+
+    private static final ClassLoader OWN_LOADER = ClassAccessors.class.getClassLoader();
+
+    private static final Map<Class<?>, ClassAccessors> FOR_ANCESTOR_CLASS = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, SoftReference<ClassAccessors>> FOR_UNRELATED_CLASS =
+        Collections.synchronizedMap(new WeakHashMap<Class<?>, SoftReference<ClassAccessors>>());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    static final Getter NO_GETTER = new Getter(null);
+
+    private final Class<?> type;
+    private final Map<String, List<Method>> methodsByName;
+    private final Map<String, Getter> getters = new ConcurrentHashMap<>();
+    private final Map<Signature, Method> setters = new ConcurrentHashMap<>();
+    private final Map<Signature, Method> overloads = new ConcurrentHashMap<>();
+    private final Map<Method, Invoker> invokers = new ConcurrentHashMap<>();
+
+    private ClassAccessors(Class<?> type) {
+        this.type = type;
+        Map<String, List<Method>> methodsByName = new HashMap<>();
+        for (Method m : type.getMethods()) {
+            methodsByName.computeIfAbsent(m.getName(), k -> new ArrayList<>(1)).add(m);
+        }
+        for (Map.Entry<String, List<Method>> entry : methodsByName.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        this.methodsByName = methodsByName;
+    }
+
+    static ClassAccessors of(Object object) {
+        Class<?> type = object.getClass();
+        ClassLoader loader = type.getClassLoader();
+        if (isAncestor(OWN_LOADER, loader)) {
+            return FOR_CLASS.get(type);
+        }
+        if (!isAncestor(loader, OWN_LOADER)) {
+            return forUnrelatedClass(type);
+        }
+        ClassAccessors result = FOR_ANCESTOR_CLASS.get(type);
+        if (result == null) {
+            result = new ClassAccessors(type);
+            ClassAccessors existing = FOR_ANCESTOR_CLASS.putIfAbsent(type, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private static ClassAccessors forUnrelatedClass(Class<?> type) {
+        SoftReference<ClassAccessors> ref = FOR_UNRELATED_CLASS.get(type);
+        ClassAccessors result = ref == null ? null : ref.get();
+        if (result == null) {
+            result = new ClassAccessors(type);
+            FOR_UNRELATED_CLASS.put(type, new SoftReference<>(result));
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the first loader is the second one or one of its
+     * ancestors. The bootstrap loader (null) is everyone's ancestor.
+     */
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) return true;
+        for (ClassLoader l = loader; l != null; l = l.getParent()) {
+            if (l == ancestor) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the public methods of the class with the given name, which
+     * may be an empty list.
+     */
+    List<Method> getMethods(String name) {
+        List<Method> methods = methodsByName.get(name);
+        return methods != null ? methods : Collections.<Method>emptyList();
+    }
+
+    boolean hasMethod(String name) {
+        return methodsByName.containsKey(name);
+    }
+
+    /**
+     * @return the getter for the property, or {@link #NO_GETTER}.
+     */
+    Getter getGetter(String name) {
+        Getter getter = getters.get(name);
+        if (getter == null) {
+            getter = findGetter(name);
+            getters.put(name, getter);
+        }
+        return getter;
+    }
+
+    private Getter findGetter(String name) {
+        if (Wrap.isRecordClass(type)) {
+            for (Method m : getMethods(name)) {
+                if (m.getParameterCount() == 0 && m.getReturnType() != Void.TYPE) {
+                    return new Getter(m);
+                }
+            }
+        }
+        String capitalized = name.substring(0, 1).toUpperCase() + name.substring(1);
+        for (Method m : getMethods("get" + capitalized)) {
+            if (m.getParameterCount() == 0 && m.getReturnType() != Void.TYPE) {
+                return new Getter(m);
+            }
+        }
+        for (Method m : getMethods("is" + capitalized)) {
+            if (m.getParameterCount() == 0
+                && (m.getReturnType() == Boolean.TYPE || m.getReturnType() == Boolean.class)) {
+                return new Getter(m);
+            }
+        }
+        return NO_GETTER;
+    }
+
+    /**
+     * @return the setter that was chosen for the property and the class
+     * of value, or null if none has been chosen yet.
+     */
+    Method getSetter(String name, Class<?> valueType) {
+        return setters.get(new Signature(name, valueType));
+    }
+
+    void putSetter(String name, Class<?> valueType, Method setter) {
+        if (isVisible(valueType)) {
+            setters.put(new Signature(name, valueType), setter);
+        }
+    }
+
+    /**
+     * @return the overload that was chosen for arguments of the given
+     * classes, or null if none has been chosen yet.
+     */
+    Method getOverload(String name, Class<?>... argTypes) {
+        return overloads.get(new Signature(name, argTypes));
+    }
+
+    void putOverload(Method method, Class<?>... argTypes) {
+        for (Class<?> argType : argTypes) {
+            if (!isVisible(argType)) return;
+        }
+        overloads.put(new Signature(method.getName(), argTypes), method);
+    }
+
+    Invoker getInvoker(Method method) {
+        Invoker invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = new Invoker(method);
+            invokers.put(method, invoker);
+        }
+        return invoker;
+    }
+
+    private boolean isVisible(Class<?> argType) {
+        if (argType == null) return true;
+        ClassLoader loader = argType.getClassLoader();
+        if (loader == null) return true;
+        for (ClassLoader l = type.getClassLoader(); l != null; l = l.getParent()) {
+            if (l == loader) return true;
+        }
+        return false;
+    }
+
+    private static void makeAccessible(Method m) {
+        try {
+            m.setAccessible(true);
+        } catch (RuntimeException e) {
+            // Then it is called as it is, and if it is not accessible
+            // that is reported when it is called.
+        }
+    }
+
+    /**
+     * A property getter, called through a method handle if one
+     * can be had for it.
+     */
+    static final class Getter {
+        final Method method;
+        private final MethodHandle handle;
+
+        Getter(Method method) {
+            this.method = method;
+            MethodHandle handle = null;
+            if (method != null) {
+                makeAccessible(method);
+                try {
+                    handle = LOOKUP.unreflect(method).asType(GETTER_TYPE);
+                } catch (IllegalAccessException e) {
+                }
+            }
+            this.handle = handle;
+        }
+
+        Object get(Object target) throws Throwable {
+            if (handle != null) {
+                return handle.invokeExact(target);
+            }
+            try {
+                return method.invoke(target);
+            } catch (java.lang.reflect.InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * A method that takes its (already unwrapped) arguments as an array.
+     */
+    static final class Invoker {
+        final Method method;
+        private final MethodHandle handle;
+
+        Invoker(Method method) {
+            this.method = method;
+            makeAccessible(method);
+            MethodHandle handle = null;
+            try {
+                handle = LOOKUP.unreflect(method).asFixedArity();
+                handle = handle.asSpreader(Object[].class, method.getParameterCount());
+                if (Modifier.isStatic(method.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                handle = handle.asType(INVOKER_TYPE);
+            } catch (IllegalAccessException e) {
+                handle = null;
+            }
+            this.handle = handle;
+        }
+
+        Object invoke(Object target, Object[] args) throws Throwable {
+            if (handle != null) {
+                return handle.invokeExact(target, args);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (java.lang.reflect.InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class Signature {
+        private final String name;
+        private final Class<?>[] types;
+        private final int hash;
+
+        Signature(String name, Class<?>... types) {
+            this.name = name;
+            this.types = types;
+            this.hash = name.hashCode() * 31 + Arrays.hashCode(types);
+        }
+
+        public boolean equals(Object o) {
+            if (o instanceof Signature) {
+                Signature s = (Signature) o;
+                return hash == s.hash && name.equals(s.name) && Arrays.equals(types, s.types);
+            }
+            return false;
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
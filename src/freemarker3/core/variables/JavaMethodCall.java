@@ -3,7 +3,6 @@ package freemarker3.core.variables;
 import java.lang.reflect.Method;
 import java.util.List;
 
-import java.util.ArrayList;
 import static freemarker3.core.variables.ReflectionCode.*;
 
 public class JavaMethodCall implements VarArgsFunction<Object> {
@@ -33,17 +32,7 @@ public class JavaMethodCall implements VarArgsFunction<Object> {
     }
 
     private void findPossibleMethods() {
-        Class<?> clazz = target.getClass();
-        Method[] methods = clazz.getMethods();
-        possibleMethods = new ArrayList<>();
-        for (Method method : methods) {
-            if (method.getName().equals(methodName)) {
-                possibleMethods.add(method);
-            }
-        }
-        if (possibleMethods.size() == 1) {
-            possibleMethods.get(0).setAccessible(true);
-        }
+        possibleMethods = getMethods(target, methodName);
     }
 
     public boolean isMethodOverloaded() {
@@ -60,17 +49,32 @@ public class JavaMethodCall implements VarArgsFunction<Object> {
      * passed in
      */
     public Object apply(Object... params) {
+        return invoke(getMethod(params), params);
+    }
+
+    /**
+     * Calls the given method, which a call with the given params
+     * has already been resolved to (see {@link #getMethod(Object...)}).
+     */
+    Object invoke(Method method, Object... params) {
+        return invokeMethod(target, method, params);
+    }
+
+    /**
+     * @return the method that a call with the given params goes to
+     */
+    Method getMethod(Object... params) {
         if (isInvalidMethodName()) throw new EvaluationException("No such method " + methodName + " in class: " + target.getClass());
         if (!isMethodOverloaded())  {
             // If there is only one method of this name, just try to
             // call it and that's that! This is the percentage case, after all.
-            return invokeMethod(target, possibleMethods.get(0), params);
+            return possibleMethods.get(0);
         }
         Method method = getCachedMethod(target, methodName, params);
         if (method != null) {
             // If we have already figured out which method
             // to call and cached it, then we use that! 
-            return invokeMethod(target, method, params);
+            return method;
         }
         Method matchedMethod = null;
         for (Method m : possibleMethods) {
@@ -83,6 +87,6 @@ public class JavaMethodCall implements VarArgsFunction<Object> {
             throw new EvaluationException("Cannot invoke method " + methodName + " here.");
         }
         cacheMethod(matchedMethod, target, params);
-        return invokeMethod(target, matchedMethod, params);
+        return matchedMethod;
     }    
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package freemarker3.core.variables;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import freemarker3.template.TemplateSequenceModel;
+
+/**
+ * Read-only {@link List} views of arrays, sequences and slices of
+ * lists, so that a template can treat these as lists without copying
+ * them. A view reflects later changes to what it is a view of.
+ * Code that needs a list that it can modify has to copy the view.
+ * @see Wrap#asList(Object)
+ */
+public final class ListViews {
+
+    private ListViews() {}
+
+    /**
+     * @return a view of the array, which may be an array of primitives,
+     * in which case the elements are boxed as they are read.
+     */
+    public static List<?> ofArray(Object array) {
+        if (array instanceof Object[]) {
+            return new ObjectArrayView((Object[]) array);
+        }
+        if (array instanceof int[]) {
+            return new IntArrayView((int[]) array);
+        }
+        if (array instanceof long[]) {
+            return new LongArrayView((long[]) array);
+        }
+        if (array instanceof double[]) {
+            return new DoubleArrayView((double[]) array);
+        }
+        return new PrimitiveArrayView(array);
+    }
+
+    public static List<Object> of(TemplateSequenceModel sequence) {
+        return new SequenceView(sequence);
+    }
+
+    /**
+     * @return a view of the elements of the list from <tt>start</tt> to
+     * <tt>end</tt>, both inclusive. If <tt>start</tt> is greater than
+     * <tt>end</tt>, the elements are in reverse order. The view is
+     * {@link RandomAccess} if the list is.
+     */
+    public static List<Object> range(List<?> list, int start, int end) {
+        if (list instanceof RandomAccess) {
+            return new RandomAccessRangeView(list, start, end);
+        }
+        return new RangeView(list, start, end);
+    }
+
+    private static final class ObjectArrayView extends AbstractList<Object> implements RandomAccess {
+        private final Object[] array;
+
+        ObjectArrayView(Object[] array) {
+            this.array = array;
+        }
+
+        public Object get(int index) {
+            return array[index];
+        }
+
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static final class IntArrayView extends AbstractList<Integer> implements RandomAccess {
+        private final int[] array;
+
+        IntArrayView(int[] array) {
+            this.array = array;
+        }
+
+        public Integer get(int index) {
+            return array[index];
+        }
+
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static final class LongArrayView extends AbstractList<Long> implements RandomAccess {
+        private final long[] array;
+
+        LongArrayView(long[] array) {
+            this.array = array;
+        }
+
+        public Long get(int index) {
+            return array[index];
+        }
+
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static final class DoubleArrayView extends AbstractList<Double> implements RandomAccess {
+        private final double[] array;
+
+        DoubleArrayView(double[] array) {
+            this.array = array;
+        }
+
+        public Double get(int index) {
+            return array[index];
+        }
+
+        public int size() {
+            return array.length;
+        }
+    }
+
+    /**
+     * For the other kinds of primitive arrays, which are rarely
+     * seen in a data model.
+     */
+    private static final class PrimitiveArrayView extends AbstractList<Object> implements RandomAccess {
+        private final Object array;
+        private final int size;
+
+        PrimitiveArrayView(Object array) {
+            this.array = array;
+            this.size = Array.getLength(array);
+        }
+
+        public Object get(int index) {
+            return Array.get(array, index);
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class SequenceView extends AbstractList<Object> implements RandomAccess {
+        private final TemplateSequenceModel sequence;
+
+        SequenceView(TemplateSequenceModel sequence) {
+            this.sequence = sequence;
+        }
+
+        public Object get(int index) {
+            return sequence.get(index);
+        }
+
+        public int size() {
+            return sequence.size();
+        }
+    }
+
+    private static class RangeView extends AbstractList<Object> {
+        private final List<?> list;
+        private final int start;
+        private final int size;
+        private final boolean reversed;
+
+        RangeView(List<?> list, int start, int end) {
+            this.list = list;
+            this.start = start;
+            this.reversed = start > end;
+            this.size = reversed ? start - end + 1 : end - start + 1;
+        }
+
+        public Object get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return list.get(reversed ? start - index : start + index);
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class RandomAccessRangeView extends RangeView implements RandomAccess {
+        RandomAccessRangeView(List<?> list, int start, int end) {
+            super(list, start, end);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package freemarker3.core.variables;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterators over arrays and numerical ranges that don't go through
+ * reflection. The ones over <tt>int</tt>, <tt>long</tt> and
+ * <tt>double</tt> values are {@link PrimitiveIterator}s, so code that
+ * knows what it is iterating over can get the values unboxed.
+ * @see Wrap#asIterator(Object)
+ */
+public final class PrimitiveIterators {
+
+    private PrimitiveIterators() {}
+
+    public static Iterator<?> ofArray(Object array) {
+        if (array instanceof Object[]) {
+            return new ObjectArrayIterator((Object[]) array);
+        }
+        if (array instanceof int[]) {
+            return new IntArrayIterator((int[]) array);
+        }
+        if (array instanceof long[]) {
+            return new LongArrayIterator((long[]) array);
+        }
+        if (array instanceof double[]) {
+            return new DoubleArrayIterator((double[]) array);
+        }
+        return new PrimitiveArrayIterator(array);
+    }
+
+    /**
+     * @return an iterator over the ints from <tt>first</tt> to
+     * <tt>last</tt>, both inclusive, counting down if <tt>first</tt>
+     * is greater than <tt>last</tt>.
+     */
+    public static PrimitiveIterator.OfInt range(int first, int last) {
+        return new RangeIterator(first, last);
+    }
+
+    private static final class ObjectArrayIterator implements Iterator<Object> {
+        private final Object[] array;
+        private int index;
+
+        ObjectArrayIterator(Object[] array) {
+            this.array = array;
+        }
+
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        public Object next() {
+            if (index >= array.length) throw new NoSuchElementException();
+            return array[index++];
+        }
+    }
+
+    private static final class IntArrayIterator implements PrimitiveIterator.OfInt {
+        private final int[] array;
+        private int index;
+
+        IntArrayIterator(int[] array) {
+            this.array = array;
+        }
+
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        public int nextInt() {
+            if (index >= array.length) throw new NoSuchElementException();
+            return array[index++];
+        }
+    }
+
+    private static final class LongArrayIterator implements PrimitiveIterator.OfLong {
+        private final long[] array;
+        private int index;
+
+        LongArrayIterator(long[] array) {
+            this.array = array;
+        }
+
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        public long nextLong() {
+            if (index >= array.length) throw new NoSuchElementException();
+            return array[index++];
+        }
+    }
+
+    private static final class DoubleArrayIterator implements PrimitiveIterator.OfDouble {
+        private final double[] array;
+        private int index;
+
+        DoubleArrayIterator(double[] array) {
+            this.array = array;
+        }
+
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        public double nextDouble() {
+            if (index >= array.length) throw new NoSuchElementException();
+            return array[index++];
+        }
+    }
+
+    /**
+     * For the other kinds of primitive arrays. The length is only
+     * looked up once.
+     */
+    private static final class PrimitiveArrayIterator implements Iterator<Object> {
+        private final Object array;
+        private final int length;
+        private int index;
+
+        PrimitiveArrayIterator(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        public Object next() {
+            if (index >= length) throw new NoSuchElementException();
+            return Array.get(array, index++);
+        }
+    }
+
+    private static final class RangeIterator implements PrimitiveIterator.OfInt {
+        private final int last;
+        private final int step;
+        private int next;
+        private boolean done;
+
+        RangeIterator(int first, int last) {
+            this.next = first;
+            this.last = last;
+            this.step = first > last ? -1 : 1;
+        }
+
+        public boolean hasNext() {
+            return !done;
+        }
+
+        public int nextInt() {
+            if (done) throw new NoSuchElementException();
+            int result = next;
+            if (result == last) {
+                done = true;
+            } else {
+                next += step;
+            }
+            return result;
+        }
+    }
+}
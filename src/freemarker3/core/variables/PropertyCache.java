@@ -0,0 +1,73 @@
+package freemarker3.core.variables;
+
+/**
+ * An inline cache for the Java bean properties looked up by a single
+ * expression, such as <tt>user.name</tt> or <tt>user["name"]</tt>.
+ * The first lookup resolves the getter for the receiver's class, and
+ * later lookups on an object of the same class call its method handle
+ * directly, without going through the tables of {@link ClassAccessors}.
+ * Up to {@link #MAX_ENTRIES} classes (and keys) are remembered. An
+ * expression that sees more than that is taken to be megamorphic, and
+ * just calls {@link ReflectionCode#getProperty(Object, String, boolean)}
+ * from then on.
+ * <p>The cache does no locking. Two threads that miss at the same time
+ * may each add an entry and one of them is lost, which only costs
+ * another miss later on.</p>
+ */
+public final class PropertyCache {
+
+    static final int MAX_ENTRIES = 4;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private volatile Entry[] entries = EMPTY;
+    private volatile boolean megamorphic;
+
+    public Object getProperty(Object object, String key, boolean looseSyntax) {
+        if (!megamorphic) {
+            Class<?> type = object.getClass();
+            Entry[] entries = this.entries;
+            for (Entry entry : entries) {
+                if (entry.type == type && (entry.key == key || entry.key.equals(key))) {
+                    return entry.get(object, looseSyntax);
+                }
+            }
+            if (entries.length < MAX_ENTRIES) {
+                Entry entry = new Entry(object, key);
+                Entry[] newEntries = new Entry[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, entries.length);
+                newEntries[entries.length] = entry;
+                this.entries = newEntries;
+                return entry.get(object, looseSyntax);
+            }
+            megamorphic = true;
+            this.entries = EMPTY;
+        }
+        return ReflectionCode.getProperty(object, key, looseSyntax);
+    }
+
+    /**
+     * How a property is looked up on objects of one class.
+     */
+    private static final class Entry {
+        final Class<?> type;
+        final String key;
+        final ClassAccessors.Getter getter;
+        final boolean methodExists;
+
+        Entry(Object object, String key) {
+            ClassAccessors accessors = ClassAccessors.of(object);
+            this.type = object.getClass();
+            this.key = key;
+            this.getter = accessors.getGetter(key);
+            this.methodExists = accessors.hasMethod(key);
+        }
+
+        Object get(Object object, boolean looseSyntax) {
+            if (getter != ClassAccessors.NO_GETTER) {
+                return ReflectionCode.getProperty(object, getter);
+            }
+            return looseSyntax && methodExists ? new JavaMethodCall(object, key) : null;
+        }
+    }
+}
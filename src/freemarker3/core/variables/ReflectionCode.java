@@ -1,27 +1,26 @@
 package freemarker3.core.variables;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.lang.invoke.MethodType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import freemarker3.template.TemplateBooleanModel;
 import freemarker3.template.TemplateDateModel;
 
 import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
 import java.lang.reflect.Array;
 import static freemarker3.core.variables.Wrap.*;
 
 /**
- * Code for invoking Java methods by reflection
+ * Code for invoking Java methods by reflection. What has been looked up
+ * on a class is kept in its {@link ClassAccessors}.
  */
 public class ReflectionCode {
 
-    private static Map<String,Method> methodCache = new ConcurrentHashMap<>();
-    private static Map<String, Method> getterCache = new ConcurrentHashMap<>();
-    private static Map<String, Method> setterCache = new ConcurrentHashMap<>();
-    private static Map<String, Boolean> classHasMethodCache = new ConcurrentHashMap<>();
     private static final Object CAN_NOT_UNWRAP = new Object();
     private static final Method NO_SUCH_METHOD;
     static {
@@ -39,53 +38,116 @@ public class ReflectionCode {
             throw new EvaluationException("Cannot run method: " + method);
         }
         Object[] args = unwrapArgsForMethod(method, params);
-        Object result = null;
+        return invoke(ClassAccessors.of(target).getInvoker(method), target, args);
+    }
+
+    /**
+     * Calls the method with arguments that are already unwrapped.
+     */
+    static Object invoke(ClassAccessors.Invoker invoker, Object target, Object[] args) {
         try {
-           result =  method.invoke(target, args);
+           return invoker.invoke(target, args);
+        } catch (Error e) {
+            throw e;
         } catch (Exception e) {
-            throw new EvaluationException("Error invoking method " + method, e);
+            throw new EvaluationException("Error invoking method " + invoker.method, e);
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * @return a function that converts an argument of the given class
+     * (or null for a null argument) to the given parameter type, the
+     * same way as {@link #unwrapArgsForMethod(Method, Object[])} does.
+     */
+    static Function<Object, Object> getConverter(Class<?> argType, Class<?> paramType) {
+        if (argType == null
+            || WrappedVariable.class.isAssignableFrom(argType)
+            || argType == JAVA_NULL.getClass()
+            || argType == NOTHING.getClass())
+        {
+            return arg -> unwrap(arg, paramType);
+        }
+        Class<?> boxedType = MethodType.methodType(paramType).wrap().returnType();
+        if (boxedType.isAssignableFrom(argType)) {
+            // The method handle unboxes it, if need be.
+            return Function.identity();
         }
-        if (result == null && method.getReturnType() == Void.TYPE) {
-//            result = NOTHING;
-            result = null;
+        if (Number.class.isAssignableFrom(argType)) {
+            if (boxedType == Integer.class) return arg -> ((Number) arg).intValue();
+            if (boxedType == Long.class) return arg -> ((Number) arg).longValue();
+            if (boxedType == Double.class) return arg -> ((Number) arg).doubleValue();
+            if (boxedType == Float.class) return arg -> ((Number) arg).floatValue();
+            if (boxedType == Short.class) return arg -> ((Number) arg).shortValue();
+            if (boxedType == Byte.class) return arg -> ((Number) arg).byteValue();
         }
-        return result;
+        return arg -> unwrap(arg, paramType);
     }
 
     public static Object getProperty(Object object, String key, boolean looseSyntax) {
-        Method getter = getGetter(object, key);
-        if (getter != NO_SUCH_METHOD) {
-            try {
-                return wrap(getter.invoke(object));
-            } catch (Exception e) {
-                throw new EvaluationException(e);
-            }
+        ClassAccessors accessors = ClassAccessors.of(object);
+        ClassAccessors.Getter getter = accessors.getGetter(key);
+        if (getter != ClassAccessors.NO_GETTER) {
+            return getProperty(object, getter);
         }
-        if (looseSyntax && methodOfNameExists(object, key)) {
+        if (looseSyntax && accessors.hasMethod(key)) {
             return new JavaMethodCall(object, key);
         }
         return null;
     }
 
+    static Object getProperty(Object object, ClassAccessors.Getter getter) {
+        try {
+            return wrap(getter.get(object));
+        } catch (Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EvaluationException(e);
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
     public static boolean setProperty(Object object, String key, Object value) {
         Method setter = getSetter(object, key, value);
         if (setter == NO_SUCH_METHOD) return false;
         Class<?> desiredType = setter.getParameterTypes()[0];
         value = unwrap(value, desiredType);
         try {
-           setter.invoke(object, value);
+           ClassAccessors.of(object).getInvoker(setter).invoke(object, new Object[] {value});
+        } catch (Error e) {
+            throw e;
         } catch (Exception e) {
             throw new EvaluationException(e);
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
         }
         return true;
     }
 
+    /**
+     * @return the public methods of the target's class with the given name
+     */
+    static List<Method> getMethods(Object target, String methodName) {
+        return ClassAccessors.of(target).getMethods(methodName);
+    }
+
     static Method getCachedMethod(Object target, String methodName, Object[] params) {
-        return methodCache.get(getLookupKey(target, methodName, params));
+        return ClassAccessors.of(target).getOverload(methodName, getTypes(params));
     }
 
     static void cacheMethod(Method m, Object target, Object[] params) {
-        methodCache.put(getLookupKey(target, m.getName(), params), m);
+        ClassAccessors.of(target).putOverload(m, getTypes(params));
+    }
+
+    private static Class<?>[] getTypes(Object[] params) {
+        if (params == null) return new Class<?>[0];
+        Class<?>[] types = new Class<?>[params.length];
+        for (int i = 0; i < params.length; i++) {
+            types[i] = params[i] == null ? null : params[i].getClass();
+        }
+        return types;
     }
 
     static boolean isCompatibleMethod(Method method, Object[] params) {
@@ -142,82 +204,27 @@ public class ReflectionCode {
         return moreSpecific && !lessSpecific;
     }
 
-    private static boolean methodOfNameExists(Object object, String name) {
-        String lookupKey = getLookupKey(object, name);
-        Boolean b = classHasMethodCache.get(lookupKey);
-        if (b != null) return b;
-        for (Method m : object.getClass().getMethods()) {
-            if (m.getName().equals(name)) {
-                classHasMethodCache.put(lookupKey, true);
-                return true;
-            }
-        }
-        classHasMethodCache.put(lookupKey, false);
-        return false;
-    }
-
-    private static Method getGetter(Object object, String name) {
-        String lookupKey = getLookupKey(object, name);
-        Method cachedMethod = getterCache.get(lookupKey);
-        if (cachedMethod != null) {
-            return cachedMethod;
-        }
-        if (isRecord(object)) {
-            try {
-                Method m = object.getClass().getMethod(name);
-                if (m.getReturnType() != Void.TYPE) {
-                    getterCache.put(lookupKey, m);
-                    m.setAccessible(true);
-                    return m;
-                }
-            } catch (NoSuchMethodException nsme) {
-            }
-        }
-        String methodName = "get" + name.substring(0, 1).toUpperCase() + name.substring(1);
-        try {
-            Method m = object.getClass().getMethod(methodName);
-            if (m.getReturnType() != Void.TYPE) {
-                getterCache.put(lookupKey, m);
-                m.setAccessible(true);
-                return m;
-            }
-        } catch (NoSuchMethodException nsme) {
-        }
-        methodName = methodName.replaceFirst("get", "is");
-        try {
-            Method m = object.getClass().getMethod(methodName);
-            if (m.getReturnType() == Boolean.TYPE || m.getReturnType() == Boolean.class) {
-                getterCache.put(getLookupKey(object, name), m);
-                m.setAccessible(true);
-                return m;
-            }
-        } catch (NoSuchMethodException nsme) {
-        }
-        getterCache.put(lookupKey, NO_SUCH_METHOD);
-        return NO_SUCH_METHOD;
-    }
-
     private static Method getSetter(Object target, String name, Object value) {
-        String lookupKey = getLookupKey(target, name, value);
-        Method cachedMethod = setterCache.get(lookupKey);
+        ClassAccessors accessors = ClassAccessors.of(target);
+        Class<?> valueType = value == null ? null : value.getClass();
+        Method cachedMethod = accessors.getSetter(name, valueType);
         if (cachedMethod != null) {
             return cachedMethod;
         }
+        Method setter = NO_SUCH_METHOD;
         String methodName = "set" + name.substring(0,1).toUpperCase() + name.substring(1);
-        for (Method m : target.getClass().getMethods()) {
-            if (!m.getName().equals(methodName)) continue;
+        for (Method m : accessors.getMethods(methodName)) {
             if (m.getReturnType() != Void.TYPE) continue;
             if (m.getParameterTypes().length != 1) continue;
             Class<?> type = m.getParameterTypes()[0];
             Object unwrapped = unwrap(value, type);
             if (unwrapped != CAN_NOT_UNWRAP) {
-                setterCache.put(lookupKey, m);
-                m.setAccessible(true);
-                return m;
+                setter = m;
+                break;
             }
         }
-        setterCache.put(lookupKey, NO_SUCH_METHOD);
-        return NO_SUCH_METHOD;
+        accessors.putSetter(name, valueType, setter);
+        return setter;
     }
 
 
@@ -246,7 +253,7 @@ public class ReflectionCode {
     }
 
     // For now, this is good enough, I reckon.
-    private static boolean isBannedMethod(Method method) {
+    static boolean isBannedMethod(Method method) {
         Class<?> clazz = method.getDeclaringClass();
         if (clazz == Object.class) {
             if (method.getName().equals("wait") || method.getName().startsWith("notify")) {
@@ -316,25 +323,4 @@ public class ReflectionCode {
         }
         return CAN_NOT_UNWRAP;
     }
-
-    private static String getLookupKey(Object target, String methodName, Object[] params) {
-        StringBuilder buf = new StringBuilder();
-        buf.append(target.getClass().getName());
-        buf.append('#');
-        buf.append(methodName);
-        buf.append('#');
-        if (params != null) for (Object param : params) {
-            buf.append(param.getClass());
-            buf.append(':');
-        }
-        return buf.toString();
-    }
-    
-    private static String getLookupKey(Object object, String propertyName) {
-        return object.getClass().getName() + "##" + propertyName;
-    }
-
-    private static String getLookupKey(Object object, String propertyName, Object value) {
-        return object.getClass().getName() + "#" + propertyName + "#" + value.getClass().getName();
-    }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package freemarker3.core.variables;
 
 import java.util.*;
-import java.lang.reflect.Array;
 import freemarker3.core.Environment;
 import freemarker3.core.nodes.generated.Expression;
 import freemarker3.template.TemplateBooleanModel;
@@ -36,7 +35,7 @@ public class Wrap {
         }
     }
 
-    private static int defaultDateType = TemplateDateModel.UNKNOWN;
+    private static volatile int defaultDateType = TemplateDateModel.UNKNOWN;
 
     private static final Class<?> RECORD_CLASS;
 
@@ -61,6 +60,10 @@ public class Wrap {
         return RECORD_CLASS != null && RECORD_CLASS.isInstance(obj);
     }
 
+    static boolean isRecordClass(Class<?> clazz) {
+        return RECORD_CLASS != null && RECORD_CLASS.isAssignableFrom(clazz);
+    }
+
     public static boolean isMap(Object obj) {
         if (obj instanceof WrappedVariable) {
             obj = ((WrappedVariable) obj).getWrappedObject();
@@ -78,20 +81,17 @@ public class Wrap {
         return obj instanceof List;
     }
 
+    /**
+     * @return the object as a list. Sequences and arrays are not copied,
+     * but come back as read-only views.
+     * @see ListViews
+     */
     public static List<?> asList(Object obj) {
         if (obj instanceof TemplateSequenceModel) {
-            TemplateSequenceModel tsm = (TemplateSequenceModel) obj;
-            List<Object> result = new ArrayList<>();
-            for (int i = 0; i < tsm.size(); i++)
-                result.add(tsm.get(i));
-            return result;
+            return ListViews.of((TemplateSequenceModel) obj);
         }
         if (obj.getClass().isArray()) {
-            List<Object> result = new ArrayList<>();
-            for (int i = 0; i < Array.getLength(obj); i++) {
-                result.add(Array.get(obj, i));
-            }
-            return result;
+            return ListViews.ofArray(obj);
         }
         return (List<?>) obj;
     }
@@ -151,18 +151,7 @@ public class Wrap {
             return (Iterator<?>) obj;
         }
         if (obj.getClass().isArray()) {
-            final Object arr = obj;
-            return new Iterator<Object>() {
-                int index = 0;
-
-                public boolean hasNext() {
-                    return index < Array.getLength(arr);
-                }
-
-                public Object next() {
-                    return Array.get(arr, index++);
-                }
-            };
+            return PrimitiveIterators.ofArray(obj);
         }
         return ((Iterable<?>) obj).iterator();
     }
@@ -175,11 +164,11 @@ public class Wrap {
      * 
      * @param defaultDateType the new default date type.
      */
-    public static synchronized void setDefaultDateType(int defaultDateType) {
+    public static void setDefaultDateType(int defaultDateType) {
         Wrap.defaultDateType = defaultDateType;
     }
 
-    static synchronized int getDefaultDateType() {
+    static int getDefaultDateType() {
         return defaultDateType;
     }
 
@@ -1,17 +1,42 @@
 package freemarker3.core.variables.scope;
 
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import freemarker3.core.nodes.generated.Block;
 import freemarker3.template.*;
 
-public class BlockScope extends HashMap<String,Object> implements Scope {
-	
+/**
+ * The scope of a block. The variables the block declares live in a
+ * compact array frame, indexed by the slot the block assigned to each
+ * of them (see {@link Block#getSlot(String)}). Undeclared variables,
+ * which can only be created when strict variable declaration is off,
+ * go to a HashMap that is only allocated when needed.
+ *
+ * <p>As for a HashMap holding only non-null values, a variable is in
+ * the scope once it has been set, and no longer once it is null again
+ * (a variable explicitly set to null holds <tt>JAVA_NULL</tt>).
+ * {@link #containsKey(Object)}, {@link #size()} and {@link #entrySet()}
+ * all follow this rule.
+ */
+public class BlockScope extends AbstractMap<String,Object> implements Scope {
+
+	private static final Object[] NO_SLOTS = new Object[0];
+
 	private Block block;
 	private Scope enclosingScope;
-	
+	private Object[] slots;
+	private HashMap<String,Object> undeclaredVariables;
+
 	public BlockScope(Block block, Scope enclosingScope) {
 		this.block = block;
 		this.enclosingScope = enclosingScope;
+		int slotCount = block == null ? 0 : block.getSlotCount();
+		this.slots = slotCount == 0 ? NO_SLOTS : new Object[slotCount];
 	}
 
 	public Scope getEnclosingScope() {
@@ -21,33 +46,130 @@ public class BlockScope extends HashMap<String,Object> implements Scope {
 	public Template getTemplate() {
 		return block.getTemplate();
 	}
-	
+
+	private int slotOf(Object key) {
+		if (block == null || !(key instanceof String)) return -1;
+		int slot = block.getSlot((String) key);
+		if (slot >= slots.length) {
+			slots = Arrays.copyOf(slots, block.getSlotCount());
+		}
+		return slot;
+	}
+
+	public Object get(Object key) {
+		int slot = slotOf(key);
+		if (slot >= 0) {
+			return slots[slot];
+		}
+		return undeclaredVariables == null ? null : undeclaredVariables.get(key);
+	}
+
+	/**
+	 * @return the value in the given slot. This is the fast path for
+	 * callers that have already resolved the slot of a variable.
+	 */
+	public Object getSlotValue(int slot) {
+		return slot < slots.length ? slots[slot] : null;
+	}
+
+	public void setSlotValue(int slot, Object value) {
+		if (slot >= slots.length) {
+			slots = Arrays.copyOf(slots, block.getSlotCount());
+		}
+		slots[slot] = value;
+	}
+
 	public Object put(String key, Object tm) {
 		if (getTemplate().strictVariableDeclaration() && !definesVariable(key)) {
 			throw new IllegalArgumentException("The variable " + key + " is not declared here.");
 		}
-		return super.put(key, tm);
+		return putUnconditionally(key, tm);
 	}
 
-	protected void putUnconditionally(String key, Object var) {
-		super.put(key, var);
+	protected Object putUnconditionally(String key, Object var) {
+		int slot = slotOf(key);
+		if (slot >= 0) {
+			Object prev = slots[slot];
+			slots[slot] = var;
+			return prev;
+		}
+		if (undeclaredVariables == null) {
+			undeclaredVariables = new HashMap<>();
+		}
+		return undeclaredVariables.put(key, var);
 	}
 
 	public Block getBlock() {
 		return block;
 	}
-	
+
 	public boolean definesVariable(String name) {
 		return getBlock().declaresVariable(name);
 	}
 
-    public Object remove(String key) {
-        return super.remove(key);
-    }
+	public boolean containsKey(Object key) {
+		int slot = slotOf(key);
+		if (slot >= 0) {
+			return slots[slot] != null;
+		}
+		return undeclaredVariables != null && undeclaredVariables.containsKey(key);
+	}
+
+	public Object remove(Object key) {
+		int slot = slotOf(key);
+		if (slot >= 0) {
+			Object prev = slots[slot];
+			slots[slot] = null;
+			return prev;
+		}
+		return undeclaredVariables == null ? null : undeclaredVariables.remove(key);
+	}
 
-    public void clear() {
-        super.clear();
-    }
+	public Object remove(String key) {
+		return remove((Object) key);
+	}
+
+	/**
+	 * @return whether any variable that the block does not declare
+	 * has been put in this scope
+	 */
+	public boolean hasUndeclaredVariables() {
+		return undeclaredVariables != null && !undeclaredVariables.isEmpty();
+	}
+
+	public void clear() {
+		Arrays.fill(slots, null);
+		undeclaredVariables = null;
+	}
+
+	public int size() {
+		int result = undeclaredVariables == null ? 0 : undeclaredVariables.size();
+		for (Object value : slots) {
+			if (value != null) result++;
+		}
+		return result;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * This is the slow path, for the likes of <tt>.vars</tt> and
+	 * <tt>?keys</tt>. It returns a snapshot rather than a live view.
+	 */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		Map<String,Object> result = new LinkedHashMap<>();
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] != null) {
+				result.put(block.getSlotName(i), slots[i]);
+			}
+		}
+		if (undeclaredVariables != null) {
+			result.putAll(undeclaredVariables);
+		}
+		return result.entrySet();
+	}
 
 	public boolean isTemplateNamespace() {
 		return block.isTemplateRoot();
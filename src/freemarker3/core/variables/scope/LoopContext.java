@@ -0,0 +1,129 @@
+package freemarker3.core.variables.scope;
+
+import freemarker3.core.nodes.generated.Block;
+
+import static freemarker3.core.variables.Wrap.wrap;
+
+/**
+ * Sets up the scope for each iteration of a <tt>#list</tt> or
+ * <tt>#foreach</tt> loop. The slots of the loop variables are resolved
+ * once per loop, and unless the loop body does something dynamic
+ * (see {@link #FRESH_SCOPES}), a single frame is reused for all the
+ * iterations. The <tt>_has_next</tt> and <tt>_index</tt> variables are
+ * only set if the body can see them.
+ */
+public final class LoopContext {
+
+    /**
+     * The body refers to the <tt>_has_next</tt> variable(s).
+     */
+    public static final int EXPOSE_HAS_NEXT = 1;
+
+    /**
+     * The body refers to the <tt>_index</tt> variable(s).
+     */
+    public static final int EXPOSE_INDEX = 2;
+
+    /**
+     * The body may capture its scope (<tt>.scope</tt>) or reach variables
+     * by name at runtime (<tt>.vars</tt>, <tt>?eval</tt> and so on), so every
+     * iteration gets its own scope, as if each were a separate block.
+     */
+    public static final int FRESH_SCOPES = 4;
+
+    public static final int EXPOSE_ALL = EXPOSE_HAS_NEXT | EXPOSE_INDEX | FRESH_SCOPES;
+
+    private final Block block;
+    private final Scope enclosingScope;
+    private final int flags;
+    private final String[] names, hasNextNames, indexNames;
+    private final int[] slots, hasNextSlots, indexSlots;
+    private BlockScope frame;
+
+    public LoopContext(Block block, Scope enclosingScope, int flags, String... loopVarNames) {
+        this.block = block;
+        this.enclosingScope = enclosingScope;
+        this.flags = flags;
+        int count = loopVarNames.length;
+        names = loopVarNames;
+        hasNextNames = (flags & EXPOSE_HAS_NEXT) != 0 ? new String[count] : null;
+        indexNames = (flags & EXPOSE_INDEX) != 0 ? new String[count] : null;
+        slots = new int[count];
+        hasNextSlots = new int[count];
+        indexSlots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = block.getSlot(names[i]);
+            if (hasNextNames != null) {
+                hasNextNames[i] = names[i] + "_has_next";
+                hasNextSlots[i] = block.getSlot(hasNextNames[i]);
+            }
+            if (indexNames != null) {
+                indexNames[i] = names[i] + "_index";
+                indexSlots[i] = block.getSlot(indexNames[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the scope for the next iteration of a loop with a single
+     * loop variable.
+     */
+    public BlockScope next(Object value, int index, boolean hasNext) {
+        BlockScope scope = newFrame();
+        set(scope, 0, wrap(value), index, hasNext);
+        return scope;
+    }
+
+    /**
+     * @return the scope for the next iteration of a loop over the values
+     * of a {@link java.util.PrimitiveIterator}. Numbers are never wrapped,
+     * so this skips {@link freemarker3.core.variables.Wrap#wrap(Object)}.
+     */
+    public BlockScope nextNumber(Number value, int index, boolean hasNext) {
+        BlockScope scope = newFrame();
+        set(scope, 0, value, index, hasNext);
+        return scope;
+    }
+
+    /**
+     * @return the scope for the next iteration of a loop over the
+     * keys and values of a map.
+     */
+    public BlockScope next(Object key, Object value, int index, boolean hasNext) {
+        BlockScope scope = newFrame();
+        set(scope, 0, wrap(key), index, hasNext);
+        set(scope, 1, wrap(value), index, hasNext);
+        return scope;
+    }
+
+    private BlockScope newFrame() {
+        if ((flags & FRESH_SCOPES) != 0) {
+            return new BlockScope(block, enclosingScope);
+        }
+        if (frame == null) {
+            frame = new BlockScope(block, enclosingScope);
+        } else {
+            // Anything the previous iteration's body declared is gone.
+            frame.clear();
+        }
+        return frame;
+    }
+
+    private void set(BlockScope scope, int i, Object value, int index, boolean hasNext) {
+        set(scope, slots[i], names[i], value);
+        if (hasNextNames != null) {
+            set(scope, hasNextSlots[i], hasNextNames[i], hasNext);
+        }
+        if (indexNames != null) {
+            set(scope, indexSlots[i], indexNames[i], index);
+        }
+    }
+
+    private static void set(BlockScope scope, int slot, String name, Object value) {
+        if (slot >= 0) {
+            scope.setSlotValue(slot, value);
+        } else {
+            scope.put(name, value);
+        }
+    }
+}
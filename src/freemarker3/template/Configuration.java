@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import freemarker3.cache.*;
 import freemarker3.core.Configurable;
@@ -51,6 +52,13 @@ public class Configuration extends Configurable {
     private ArrayList<String> autoIncludes = new ArrayList<String>();
     private String defaultEncoding = "UTF-8";
     private boolean tolerateParsingProblems = false;
+    private volatile int compileThreshold;
+    private volatile boolean lazyInstructionStack;
+    private volatile boolean constantFolding;
+    private volatile ForkJoinPool parallelListPool;
+    private volatile FragmentCache fragmentCache = new FragmentCache(new SoftCacheStorage());
+    public static final int DEFAULT_EVAL_CACHE_SIZE = 256;
+    private volatile ExpressionCache evalCache = new ExpressionCache(DEFAULT_EVAL_CACHE_SIZE);
     public Configuration() {
         cache = new TemplateCache();
         cache.setConfiguration(this);
@@ -218,6 +226,127 @@ public class Configuration extends Configurable {
         cache.setDelay(1000L * delay);
     }
     
+    /**
+     * Sets the number of renders after which a template (or a macro) is
+     * switched from the tree-walking interpreter to its compiled form.
+     * Zero, the factory-set default, means templates are never compiled
+     * automatically, though {@link Template#compile()} can still be
+     * called explicitly.
+     * This method is thread-safe and can be called while the engine works.
+     */
+    public void setCompileThreshold(int compileThreshold) {
+        if (compileThreshold < 0) {
+            throw new IllegalArgumentException("compileThreshold can't be negative");
+        }
+        this.compileThreshold = compileThreshold;
+    }
+
+    /**
+     * @return the number of renders after which a template is compiled,
+     * or zero if templates are never compiled automatically.
+     */
+    public int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * Sets whether the FTL instruction stack is only reconstructed when
+     * an error occurs. In this mode, the environment does not push and pop
+     * every element it renders, but only the points where control leaves
+     * the lexical nesting of the template: macro calls, <tt>#nested</tt>,
+     * includes and imports. When a {@link TemplateException} reaches the
+     * handler, its FTL stack is rebuilt from the parents of the failing
+     * element and these call sites, so it shows the same macro calls and
+     * includes as in the default (eager) mode.
+     * As a side effect, {@link Environment#getElementStack()} then only
+     * contains the call sites. The factory-set default is off.
+     */
+    public void setLazyInstructionStack(boolean lazyInstructionStack) {
+        this.lazyInstructionStack = lazyInstructionStack;
+    }
+
+    public boolean getLazyInstructionStack() {
+        return lazyInstructionStack;
+    }
+
+    /**
+     * Sets whether templates are constant folded after they are parsed.
+     * Parts of expressions that do not depend on the data model, such as
+     * the concatenation of string literals, or a list literal of
+     * literals, are then evaluated once and replaced by their value, and
+     * adjacent runs of static text are merged. The factory-set default
+     * is off. This only affects templates that are parsed afterwards.
+     */
+    public void setConstantFolding(boolean constantFolding) {
+        this.constantFolding = constantFolding;
+    }
+
+    public boolean getConstantFolding() {
+        return constantFolding;
+    }
+
+    /**
+     * Sets the pool that renders the chunks of a
+     * <tt>&lt;#list ... parallel=true&gt;</tt> loop. A null value, the
+     * factory-set default, means the common <tt>ForkJoinPool</tt>.
+     * This method is thread-safe and can be called while the engine works.
+     */
+    public void setParallelListPool(ForkJoinPool parallelListPool) {
+        this.parallelListPool = parallelListPool;
+    }
+
+    /**
+     * @return the pool that parallel <tt>#list</tt> loops are rendered on.
+     * This is never null.
+     */
+    public ForkJoinPool getParallelListPool() {
+        ForkJoinPool pool = parallelListPool;
+        return pool != null ? pool : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Sets the storage that the output of <tt>#cache</tt> blocks is kept
+     * in, which drops whatever was cached so far. The factory-set default
+     * is a {@link SoftCacheStorage}.
+     */
+    public void setFragmentCacheStorage(CacheStorage storage) {
+        this.fragmentCache = new FragmentCache(storage);
+    }
+
+    /**
+     * Sets the cache that the output of <tt>#cache</tt> blocks is kept in,
+     * for instance one with a clock of its own.
+     */
+    public void setFragmentCache(FragmentCache fragmentCache) {
+        if (fragmentCache == null) {
+            throw new IllegalArgumentException("fragmentCache == null");
+        }
+        this.fragmentCache = fragmentCache;
+    }
+
+    public FragmentCache getFragmentCache() {
+        return fragmentCache;
+    }
+
+    /**
+     * Sets how many of the expressions parsed by <tt>?eval</tt> are
+     * kept, so that they need not be parsed again. This starts a new,
+     * empty cache. 0 turns the caching off. The factory-set default is
+     * {@link #DEFAULT_EVAL_CACHE_SIZE}.
+     */
+    public void setEvalCacheSize(int size) {
+        this.evalCache = new ExpressionCache(size);
+    }
+
+    /**
+     * @return the cache of the expressions parsed by <tt>?eval</tt>,
+     * whose hit and miss counts show how well its size suits the
+     * templates.
+     */
+    public ExpressionCache getEvalCache() {
+        return evalCache;
+    }
+
     public void setStrictVariableDefinition(boolean b) {
     	this.legacySyntax = !b;
     }
@@ -484,6 +613,18 @@ public class Configuration extends Configurable {
      *   <li><code>"template_update_delay"</code>: Valid positive integer, the
      *       update delay measured in seconds.
      *       See: {@link #setTemplateUpdateDelay}
+     *   <li><code>"compile_threshold"</code>: Non-negative integer, the
+     *       number of renders after which a template is compiled.
+     *       See: {@link #setCompileThreshold}
+     *   <li><code>"lazy_instruction_stack"</code>: <code>"true"</code>,
+     *       <code>"false"</code>, etc.
+     *       See: {@link #setLazyInstructionStack}
+     *   <li><code>"constant_folding"</code>: <code>"true"</code>,
+     *       <code>"false"</code>, etc.
+     *       See: {@link #setConstantFolding}
+     *   <li><code>"eval_cache_size"</code>: Non-negative integer, the
+     *       number of expressions parsed by <tt>?eval</tt> that are kept.
+     *       See: {@link #setEvalCacheSize}
      * </ul>
      *
      * @param key the name of the setting.
@@ -541,6 +682,14 @@ public class Configuration extends Configurable {
                 }
             } else if ("template_update_delay".equalsIgnoreCase(key)) {
                 setTemplateUpdateDelay(Integer.parseInt(value));
+            } else if ("compile_threshold".equalsIgnoreCase(key)) {
+                setCompileThreshold(Integer.parseInt(value));
+            } else if ("lazy_instruction_stack".equalsIgnoreCase(key)) {
+                setLazyInstructionStack(StringUtil.getYesNo(value));
+            } else if ("constant_folding".equalsIgnoreCase(key)) {
+                setConstantFolding(StringUtil.getYesNo(value));
+            } else if ("eval_cache_size".equalsIgnoreCase(key)) {
+                setEvalCacheSize(Integer.parseInt(value));
             } else if ("auto_include".equalsIgnoreCase(key)) {
                 setAutoIncludes(new SettingStringParser(value).parseAsList());
             } else if ("auto_import".equalsIgnoreCase(key)) {
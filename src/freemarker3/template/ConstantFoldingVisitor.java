@@ -0,0 +1,191 @@
+package freemarker3.template;
+
+import java.util.*;
+
+import freemarker3.builtins.StringTransformations;
+import freemarker3.core.nodes.ConstantExpression;
+import freemarker3.core.nodes.ParameterList;
+import freemarker3.core.nodes.generated.*;
+import freemarker3.core.parser.Node;
+import freemarker3.core.parser.Token;
+
+/**
+ * An optional pass over the AST, run after {@link PostParseVisitor}
+ * and before {@link FreezingVisitor}, if the configuration asks for
+ * constant folding. Expressions that do not depend on the data model
+ * (nor on the locale or other settings) are evaluated once, and replaced
+ * by a {@link ConstantExpression}. Adjacent text elements are merged.
+ * Literals themselves are left alone, since various directives check
+ * for them. So are list and hash literals, even when everything in
+ * them is constant, since each evaluation has to give a new collection
+ * that the template can change; the constant parts of a list literal
+ * are folded on their own.
+ * @see Configuration#setConstantFolding(boolean)
+ */
+
+class ConstantFoldingVisitor extends Node.Visitor {
+
+	private static final Object NOT_CONSTANT = new Object();
+
+	void visit(Template template) {
+		visit(template.getRootTreeNode());
+	}
+
+	void visit(Block node) {
+		recurse(node);
+		mergeText(node);
+	}
+
+	void visit(Interpolation node) {
+		Expression exp = node.getExpression();
+		Expression escaped = node.getEscapedExpression();
+		recurse(node);
+		if (escaped == exp) {
+			node.setEscapedExpression(node.getExpression());
+		} else {
+			// The escaped expression is a copy that is not in the tree.
+			ConstantExpression folded = fold(escaped);
+			if (folded != null) {
+				node.setEscapedExpression(folded);
+			} else {
+				recurse(escaped);
+			}
+		}
+	}
+
+	void visit(AdditiveExpression node) {
+		replaceOrRecurse(node);
+	}
+
+	void visit(BuiltInExpression node) {
+		replaceOrRecurse(node);
+	}
+
+	// These hold on to their expressions outside of the child list.
+
+	void visit(HashLiteral node) {
+	}
+
+	void visit(NamedArgsList node) {
+	}
+
+	void visit(ParameterList node) {
+	}
+
+	void visit(TemplateHeaderElement node) {
+	}
+
+	private void replaceOrRecurse(Expression node) {
+		ConstantExpression folded = fold(node);
+		if (folded != null) {
+			node.getParent().replace(node, folded);
+		} else {
+			recurse(node);
+		}
+	}
+
+	private ConstantExpression fold(Expression exp) {
+		Object value = valueOf(exp);
+		if (value == NOT_CONSTANT) {
+			return null;
+		}
+		ConstantExpression result = new ConstantExpression(value);
+		result.copyLocationFrom(exp);
+		result.setTemplate(exp.getTemplate());
+		result.setParent(exp.getParent());
+		return result;
+	}
+
+	/**
+	 * @return the value of the expression, or NOT_CONSTANT if it
+	 * can't be worked out ahead of time.
+	 */
+	private Object valueOf(Expression exp) {
+		if (exp instanceof ConstantExpression) {
+			return ((ConstantExpression) exp).getValue();
+		}
+		if (exp instanceof StringLiteral) {
+			StringLiteral literal = (StringLiteral) exp;
+			return literal.isInterpolated() ? NOT_CONSTANT : literal.getAsString();
+		}
+		if (exp instanceof NumberLiteral) {
+			return ((NumberLiteral) exp).getValue();
+		}
+		if (exp instanceof BooleanLiteral) {
+			return ((BooleanLiteral) exp).evaluate(null);
+		}
+		if (exp instanceof ParentheticalExpression) {
+			return valueOf(((ParentheticalExpression) exp).getNested());
+		}
+		if (exp instanceof AdditiveExpression) {
+			return concatenation((AdditiveExpression) exp);
+		}
+		if (exp instanceof BuiltInExpression) {
+			return builtInValue((BuiltInExpression) exp);
+		}
+		return NOT_CONSTANT;
+	}
+
+	/**
+	 * Only string concatenation is folded. Adding numbers, or appending
+	 * one to a string, depends on the arithmetic engine and number format
+	 * that are in effect when the template is rendered.
+	 */
+	private Object concatenation(AdditiveExpression exp) {
+		StringBuilder buf = new StringBuilder();
+		for (Node child : exp) {
+			if (child instanceof Expression) {
+				Object value = valueOf((Expression) child);
+				if (!(value instanceof String)) return NOT_CONSTANT;
+				buf.append((String) value);
+			}
+			else if (child.getType() != Token.TokenType.PLUS) {
+				return NOT_CONSTANT;
+			}
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Only the built-ins that transform a string without looking at the
+	 * environment are folded. <tt>?upper_case</tt> and <tt>?lower_case</tt>
+	 * depend on the locale.
+	 */
+	private Object builtInValue(BuiltInExpression exp) {
+		Object target = valueOf(exp.getTarget());
+		if (!(target instanceof String)) {
+			return NOT_CONSTANT;
+		}
+		String s = (String) target;
+		if (exp.getBuiltIn() instanceof StringTransformations) {
+			return ((StringTransformations) exp.getBuiltIn()).apply(s);
+		}
+		if (exp.getName().equals("length")) {
+			return s.length();
+		}
+		if (exp.getName().equals("trim")) {
+			return s.trim();
+		}
+		return NOT_CONSTANT;
+	}
+
+	/**
+	 * Merges runs of adjacent text elements, such as those on either
+	 * side of a comment, into the first of them.
+	 */
+	private void mergeText(Block block) {
+		// The output text of a text element depends on its siblings,
+		// so it is all worked out before any of them are removed.
+		for (TextElement text : block.childrenOfType(TextElement.class)) {
+			text.getOutputText();
+		}
+		for (int i = 0; i + 1 < block.size(); i++) {
+			Node child = block.get(i);
+			if (!(child instanceof TextElement)) continue;
+			while (i + 1 < block.size() && block.get(i + 1) instanceof TextElement) {
+				((TextElement) child).absorb((TextElement) block.get(i + 1));
+				block.remove(i + 1);
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package freemarker3.template;
+
+import java.nio.charset.Charset;
+
+import freemarker3.core.nodes.generated.*;
+import freemarker3.core.parser.Node;
+
+/**
+ * The last pass over the AST, run after {@link PostParseVisitor}.
+ * It has nodes capture their executable children, operands and so on
+ * in final arrays and fields, so that the hot path does no child scanning
+ * or list allocation. The tree must not be restructured after this.
+ */
+
+class FreezingVisitor extends Node.Visitor {
+
+	private Charset outputCharset;
+
+	void visit(Template template) {
+		String encoding = template.getOutputEncoding();
+		if (encoding != null) {
+			try {
+				outputCharset = Charset.forName(encoding);
+			} catch (IllegalArgumentException e) {
+				// Then the text is just encoded when it is first output.
+			}
+		}
+		visit(template.getRootTreeNode());
+	}
+
+	void visit(TextElement node) {
+		node.freeze(outputCharset);
+	}
+
+	void visit(Block node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(SwitchBlock node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(CaseBlock node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(UnifiedCall node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(IncludeInstruction node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(CacheBlock node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(IteratorBlock node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(DefaultToExpression node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(PositionalArgsList node) {
+		recurse(node);
+		node.freeze();
+	}
+
+	void visit(Identifier node) {
+		node.resolveSlot();
+	}
+}
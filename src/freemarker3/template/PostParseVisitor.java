@@ -20,6 +20,7 @@ class PostParseVisitor extends Node.Visitor {
 	
 	private Template template;
 	private List<EscapeBlock> escapes = new ArrayList<>();
+	private List<IteratorBlock> parallelLoops = new ArrayList<>();
 
 	PostParseVisitor(Template template) {
 		this.template = template;
@@ -37,6 +38,11 @@ class PostParseVisitor extends Node.Visitor {
 		TemplateHeaderElement header = template.getHeaderElement();
 		if (header != null) visit(header);
 		visit(template.getRootTreeNode());
+		// Functions can be defined after the loops that call them.
+		checkFunctions();
+		for (IteratorBlock loop : parallelLoops) {
+			checkParallelBody(loop);
+		}
 	}
 	
 	void visit(TemplateHeaderElement header) {
@@ -191,8 +197,174 @@ class PostParseVisitor extends Node.Visitor {
 			node.getNestedBlock().declareVariable(node.getValueVarName() + "_index");
 		}
 		recurse(node);
+		for (Node child : node.childrenOfType(Identifier.class)) {
+			if (child.nextSibling().getType() == Token.TokenType.EQUALS) {
+				String option = child.toString();
+				if (!option.equals("parallel") && !option.equals("chunk")) {
+					template.addParsingProblem(new ParsingProblemImpl("Unknown list option: " + option, child));
+				}
+			}
+		}
+		if (node.getOption("parallel") != null) {
+			parallelLoops.add(node);
+		}
+	}
+
+	/**
+	 * The iterations of a parallel loop are rendered concurrently, so
+	 * its body must not change anything that outlives an iteration.
+	 * Setting a variable declared within the body is fine; assigning
+	 * to anything else, breaking out of the loop, and directives that
+	 * run code from elsewhere or change the environment are not.
+	 * That rules out calling macros and user-defined directives, which
+	 * could do any of these, and calling this template's functions
+	 * unless they pass the same check (see {@link #checkFunctions()}).
+	 * A function that can't be told from a Java method here, such as
+	 * one from an imported namespace, is checked when it is called.
+	 */
+	private void checkParallelBody(IteratorBlock loop) {
+		Block body = loop.getNestedBlock();
+		for (Node node : body.descendants()) {
+			String problem = parallelProblem(node, body, loop);
+			if (problem != null) {
+				template.addParsingProblem(new ParsingProblemImpl(problem, node));
+			}
+		}
+	}
+
+	/**
+	 * Marks the functions of this template that can be called within a
+	 * parallel list: those whose bodies pass the same check as the body
+	 * of the list (returning a value being fine, of course), and only
+	 * call functions that pass it too.
+	 */
+	private void checkFunctions() {
+		List<Macro> functions = new ArrayList<>();
+		for (Macro macro : template.getMacros().values()) {
+			if (macro.isFunction()) {
+				boolean safe = true;
+				for (Node node : macro.getNestedBlock().descendants()) {
+					if (!(node instanceof ReturnInstruction) && parallelProblem(node, macro.getNestedBlock(), null) != null) {
+						safe = false;
+						break;
+					}
+				}
+				macro.setParallelSafe(safe);
+				if (safe) functions.add(macro);
+			}
+		}
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Iterator<Macro> it = functions.iterator(); it.hasNext();) {
+				Macro function = it.next();
+				for (MethodCall call : function.getNestedBlock().descendants(MethodCall.class)) {
+					if (callsUnsafeFunction(call)) {
+						function.setParallelSafe(false);
+						it.remove();
+						changed = true;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return what rules out the given node within the given body of a
+	 * parallel list (or of a function called from one, if the loop is
+	 * null), or null if it is fine
+	 */
+	private String parallelProblem(Node node, Block body, IteratorBlock loop) {
+		if (node instanceof AssignmentInstruction) {
+			AssignmentInstruction assignment = (AssignmentInstruction) node;
+			if (!isLocalToBody(assignment, assignment.getTargetExpressions(), assignment.getNamespaceExp(), body)) {
+				return "A parallel list can only set variables declared within it.";
+			}
+		}
+		else if (node instanceof BlockAssignment) {
+			BlockAssignment assignment = (BlockAssignment) node;
+			if (!isLocalToBody(assignment, Collections.singletonList(assignment.getTargetExpression()), assignment.getNamespaceExp(), body)) {
+				return "A parallel list can only set variables declared within it.";
+			}
+		}
+		else if (node instanceof BreakInstruction) {
+			Node parent = node.getParent();
+			while (parent != body && !(parent instanceof SwitchBlock) && !(parent instanceof IteratorBlock)) {
+				parent = parent.getParent();
+			}
+			if (parent == loop || parent == body) {
+				return "Cannot break out of a parallel list.";
+			}
+		}
+		else if (node instanceof BuiltInExpression && ((BuiltInExpression) node).getName().equals("interpret")) {
+			return "Cannot use ?interpret within a parallel list.";
+		}
+		else if (node instanceof MethodCall && callsUnsafeFunction((MethodCall) node)) {
+			return "Cannot call " + ((MethodCall) node).getTarget() + " within a parallel list.";
+		}
+		else if (node instanceof NestedInstruction || node instanceof IncludeInstruction
+				|| node instanceof ImportDeclaration || node instanceof VisitNode
+				|| node instanceof RecurseNode || node instanceof FallbackInstruction
+				|| node instanceof Macro || node instanceof PropertySetting
+				|| node instanceof ExecInstruction || node instanceof ReturnInstruction
+				|| node instanceof UnifiedCall)
+		{
+			return "Cannot use " + ((TemplateNode) node).getDescription() + " within a parallel list.";
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether the call is to a function (or macro) of this
+	 * template that can't be called within a parallel list
+	 */
+	private boolean callsUnsafeFunction(MethodCall call) {
+		if (!(call.getTarget() instanceof Identifier)) {
+			return false;
+		}
+		Macro macro = template.getMacros().get(call.getTarget().toString());
+		return macro != null && !macro.isParallelSafe();
+	}
+
+	private static boolean isLocalToBody(TemplateNode assignment, List<Expression> targets, Expression namespaceExp, Block body) {
+		if (assignment.get(0).getType() != Token.TokenType.SET || namespaceExp != null) {
+			return false;
+		}
+		for (Expression target : targets) {
+			if (!(target instanceof Identifier) && !(target instanceof StringLiteral)) {
+				return false;
+			}
+			String name = target instanceof StringLiteral ? ((StringLiteral) target).getAsString() : target.toString();
+			boolean declared = false;
+			for (Node parent = assignment.getParent(); !declared; parent = parent.getParent()) {
+				if (parent instanceof Block && ((Block) parent).declaresVariable(name)) {
+					declared = true;
+				}
+				if (parent == body) {
+					break;
+				}
+			}
+			if (!declared) {
+				return false;
+			}
+		}
+		return true;
 	}
 	
+	void visit(CacheBlock node) {
+		recurse(node);
+		for (Node child : node.childrenOfType(Identifier.class)) {
+			String param = child.toString();
+			if (child.nextSibling().getType() == Token.TokenType.EQUALS && !param.equals("key") && !param.equals("ttl")) {
+				template.addParsingProblem(new ParsingProblemImpl("Unknown cache parameter: " + param, child));
+			}
+		}
+		if (node.getParamByName("key") == null) {
+			template.addParsingProblem(new ParsingProblemImpl("The cache directive requires a key.", node));
+		}
+	}
+
 	void visit(BreakInstruction node) {
 		recurse(node);
 		Node parent = node;
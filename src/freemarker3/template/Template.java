@@ -1,12 +1,24 @@
 package freemarker3.template;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
+import freemarker3.core.ByteSinkWriter;
+import freemarker3.core.CompiledBlock;
 import freemarker3.core.Configurable;
 import freemarker3.core.Environment;
+import freemarker3.core.Flow;
+import freemarker3.core.RenderPublisher;
 import freemarker3.core.nodes.generated.Block;
 import freemarker3.core.nodes.generated.ImportDeclaration;
 import freemarker3.core.nodes.generated.Macro;
@@ -61,6 +73,17 @@ public class Template extends Configurable {
     private Map<String, String> namespaceURIToPrefixLookup = new HashMap<String, String>();
     
     private boolean strictVariableDeclaration;
+
+    private volatile boolean compiled;
+
+    // Not a monitor, so that a virtual thread compiling the template
+    // does not pin its carrier.
+    private final ReentrantLock compileLock = new ReentrantLock();
+
+    private final AtomicInteger executionCount = new AtomicInteger();
+
+    // Set by the one render that gets to compile the template.
+    private final AtomicBoolean thresholdReached = new AtomicBoolean();
     
     private List<ParsingProblemImpl> parsingProblems = new ArrayList<>();
     private TemplateHeaderElement headerElement;
@@ -104,6 +127,10 @@ public class Template extends Configurable {
             this.rootElement = parser.Root();
             PostParseVisitor ppv = new PostParseVisitor(this);
             ppv.visit(this);
+            if (getConfiguration().getConstantFolding()) {
+                new ConstantFoldingVisitor().visit(this);
+            }
+            new FreezingVisitor().visit(this);
         }
         catch(ParseException e) {
             e.setTemplateName(name);
@@ -125,6 +152,10 @@ public class Template extends Configurable {
             this.rootElement = parser.Root();
             PostParseVisitor ppv = new PostParseVisitor(this);
             ppv.visit(this);
+            if (getConfiguration().getConstantFolding()) {
+                new ConstantFoldingVisitor().visit(this);
+            }
+            new FreezingVisitor().visit(this);
         }
         catch(ParseException e) {
             e.setTemplateName(name);
@@ -208,6 +239,63 @@ public class Template extends Configurable {
         createProcessingEnvironment(rootMap, out).process();
     }
 
+    /**
+     * Processes the template, using data from the map, and outputs the
+     * resulting text to the supplied stream, encoded with the given charset.
+     * The text is encoded directly into pooled buffers, and the stream
+     * gets it in large chunks, so there is no need to wrap it in a
+     * <tt>BufferedOutputStream</tt> or an <tt>OutputStreamWriter</tt>.
+     * The output encoding of the processing environment is set to the
+     * charset. The stream is flushed, but not closed, once processing
+     * is done.
+     * @param rootMap the root node of the data model.
+     * @param out the stream to output the text to.
+     * @param charset the charset to encode the text with.
+     * @throws TemplateException if an exception occurs during template processing
+     * @throws IOException if an I/O exception occurs during writing to the stream.
+     */
+    public void process(Map<String,Object> rootMap, OutputStream out, Charset charset) throws IOException
+    {
+        try (ByteSinkWriter writer = ByteSinkWriter.to(out, charset)) {
+            processEncoded(rootMap, writer);
+        }
+    }
+
+    /**
+     * Like {@link #process(Map, OutputStream, Charset)}, but outputs the
+     * encoded text to a channel, which must be in blocking mode.
+     * @throws IllegalArgumentException if the channel is a selectable
+     * channel in non-blocking mode
+     */
+    public void process(Map<String,Object> rootMap, WritableByteChannel channel, Charset charset) throws IOException
+    {
+        try (ByteSinkWriter writer = ByteSinkWriter.to(channel, charset)) {
+            processEncoded(rootMap, writer);
+        }
+    }
+
+    /**
+     * Returns a publisher of the output of this template, encoded with the
+     * given charset, in chunks. Each subscriber gets its own rendering,
+     * run on the given executor, which only goes on as long as the
+     * subscriber demands more chunks. A <tt>#flush</tt> in the template
+     * emits the output so far as a chunk.
+     * @param rootMap the root node of the data model.
+     * @param charset the charset to encode the text with.
+     * @param executor runs the renders.
+     * @see RenderPublisher
+     */
+    public Flow.Publisher<ByteBuffer> publish(Map<String,Object> rootMap, Charset charset, Executor executor) {
+        return new RenderPublisher(this, rootMap, charset, executor);
+    }
+
+    private void processEncoded(Map<String,Object> rootMap, ByteSinkWriter writer) throws IOException
+    {
+        Environment env = createProcessingEnvironment(rootMap, writer);
+        env.setOutputEncoding(writer.getCharset().name());
+        env.process();
+    }
+
     /**
      * Processes the template, using data from the root map object, and outputs
      * the resulting text to the supplied writer, using the supplied
@@ -463,5 +551,53 @@ public class Template extends Configurable {
     public Block getRootElement() {
         return rootElement;
     }
+
+    /**
+     * Compiles every block of this template into a flat instruction
+     * array (see {@link CompiledBlock}). The output is identical to that
+     * of the interpreter; renders that are already running when this is
+     * called simply finish on the tree they started with.
+     */
+    public void compile() {
+        compileLock.lock();
+        try {
+            if (compiled) return;
+            CompiledBlock.compileTree(rootElement);
+            compiled = true;
+        } finally {
+            compileLock.unlock();
+        }
+    }
+
+    /**
+     * Called by the environment every time this template is rendered,
+     * whether as the main template, an include or an import. Once the
+     * count reaches {@link Configuration#getCompileThreshold()}, the
+     * template is compiled, so that rarely used templates never pay
+     * for compilation. If the threshold is lowered below the count, the
+     * template is compiled on its next render.
+     */
+    public void recordExecution() {
+        if (compiled) return;
+        int threshold = getConfiguration().getCompileThreshold();
+        if (threshold > 0 && executionCount.incrementAndGet() >= threshold
+                && thresholdReached.compareAndSet(false, true)) {
+            compile();
+        }
+    }
+
+    /**
+     * @return the number of renders counted towards the compile threshold
+     */
+    public int getExecutionCount() {
+        return executionCount.get();
+    }
+
+    /**
+     * @return whether {@link #compile()} has been called on this template
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
 }
 
@@ -47,7 +47,7 @@ public class TemplateException extends RuntimeException {
      */
     public TemplateException(String description, Exception cause, Environment env) {
         super(getDescription(description, cause), cause);
-        if(env != null) {
+        if(env != null && !env.hasLazyInstructionStack()) {
             ftlStack = new ArrayList<>(env.getElementStack());
             Collections.reverse(ftlStack); // We put this in opposite order, as the trace is usually displayed that way.
         }
@@ -101,6 +101,18 @@ public class TemplateException extends RuntimeException {
     	return buf.toString();
     }
     
+    /**
+     * Sets the FTL call stack (starting with current element), unless
+     * it is already known. This is used when the stack is only
+     * reconstructed as the exception reaches the handler.
+     * @see Environment#hasLazyInstructionStack()
+     */
+    public void setFTLStack(List<TemplateElement> ftlStack) {
+        if (this.ftlStack == null) {
+            this.ftlStack = ftlStack;
+        }
+    }
+
     /**
      * @return the FTL call stack (starting with current element)
      */
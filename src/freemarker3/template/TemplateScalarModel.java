@@ -1,5 +1,8 @@
 package freemarker3.template;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import freemarker3.core.variables.WrappedVariable;
 
 /**
@@ -16,6 +19,15 @@ public interface TemplateScalarModel extends CharSequence, WrappedVariable {
         return toString();  
     }
 
+    /**
+     * Writes out the string value, as when the object is interpolated.
+     * Implement this if the value can be written out without building
+     * the whole string first.
+     */
+    default void writeTo(Writer out) throws IOException {
+        out.write(getAsString());
+    }
+
     default char charAt(int i) {
         return getAsString().charAt(i);
     }
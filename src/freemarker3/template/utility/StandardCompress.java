@@ -6,6 +6,7 @@ import java.util.Map;
 
 import freemarker3.core.variables.*;
 import freemarker3.annotations.Parameters;
+import freemarker3.core.CaptureBuffer;
 import freemarker3.core.Environment;
 
 import static freemarker3.core.variables.Wrap.asBoolean;
@@ -97,12 +98,19 @@ public class StandardCompress implements UserDirective {
                 throw new EvaluationException("Expecting boolean argument to " + SINGLE_LINE_KEY);
             }
         }
-        Writer compressWriter = new StandardCompressWriter(env.getOut(), bufferSize, singleLine);
+        // The environment's capture buffers make for reusable scratch space.
+        CaptureBuffer scratch = env.borrowBuffer();
         try {
-            body.render(compressWriter);
+            Writer compressWriter = new StandardCompressWriter(env.getOut(), scratch.array(bufferSize), bufferSize, singleLine);
+            try {
+                body.render(compressWriter);
+            }
+            finally {
+                compressWriter.close();
+            }
         }
         finally {
-            compressWriter.close();
+            env.returnBuffer(scratch);
         }
     }
 
@@ -143,6 +151,7 @@ public class StandardCompress implements UserDirective {
 
         private final Writer out;
         private final char[] buf;
+        private final int bufSize;
         private final boolean singleLine;
     
         private int pos = 0;
@@ -150,15 +159,23 @@ public class StandardCompress implements UserDirective {
         private int lineBreakState = AT_BEGINNING;
 
         StandardCompressWriter(Writer out, int bufSize, boolean singleLine) {
+            this(out, new char[bufSize], bufSize, singleLine);
+        }
+
+        /**
+         * @param buf the buffer to use, which may be longer than bufSize
+         */
+        StandardCompressWriter(Writer out, char[] buf, int bufSize, boolean singleLine) {
             this.out = out;
             this.singleLine = singleLine;
-            buf = new char[bufSize];
+            this.buf = buf;
+            this.bufSize = bufSize;
         }
 
         public void write(char[] cbuf, int off, int len) throws IOException {
             for (;;) {
                 // Need to reserve space for the EOL potentially left in the state machine
-                int room = buf.length - pos - MAX_EOL_LENGTH; 
+                int room = bufSize - pos - MAX_EOL_LENGTH; 
                 if (room >= len) {
                     writeHelper(cbuf, off, len);
                     break;
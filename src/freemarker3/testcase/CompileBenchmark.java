@@ -0,0 +1,65 @@
+package freemarker3.testcase;
+
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import freemarker3.template.Configuration;
+import freemarker3.template.Template;
+
+/**
+ * Compares rendering a template with the tree-walking interpreter and
+ * with its compiled form (see {@link Template#compile()}). This is not
+ * part of the test suite, since timings are too noisy to assert on; run
+ * it by hand with the build directory on the class path.
+ */
+public class CompileBenchmark {
+
+    static final String SOURCE =
+          "<#list rows as row>\n"
+        + "<tr class=\"${(row % 2 == 0)?string('even', 'odd')}\">\n"
+        + "  <td>${row}</td>\n"
+        + "  <#if row % 3 == 0><td>fizz</td><#elseif row % 5 == 0><td>buzz</td><#else><td>-</td></#if>\n"
+        + "  <#var total = row * 2>\n"
+        + "  <td>${total}</td>\n"
+        + "</tr>\n"
+        + "</#list>\n";
+
+    public static void main(String[] args) throws Exception {
+        int renders = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        Configuration cfg = new Configuration();
+        Template interpreted = new Template("interpreted", new StringReader(SOURCE), cfg);
+        Template compiled = new Template("compiled", new StringReader(SOURCE), cfg);
+        compiled.compile();
+        Map<String, Object> root = new HashMap<>();
+        Integer[] rows = new Integer[50];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        root.put("rows", rows);
+        for (int round = 0; round < 5; round++) {
+            long interpretedTime = time(interpreted, root, renders);
+            long compiledTime = time(compiled, root, renders);
+            System.out.println("round " + round
+                    + ": interpreted " + interpretedTime / renders + " ns/render"
+                    + ", compiled " + compiledTime / renders + " ns/render");
+        }
+    }
+
+    private static long time(Template template, Map<String, Object> root, int renders) throws Exception {
+        Writer out = new NullWriter();
+        long start = System.nanoTime();
+        for (int i = 0; i < renders; i++) {
+            template.process(root, out);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static class NullWriter extends Writer {
+        public void write(char[] cbuf, int off, int len) {}
+        public void write(String str, int off, int len) {}
+        public void flush() {}
+        public void close() {}
+    }
+}
@@ -0,0 +1,76 @@
+package freemarker3.testcase;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import freemarker3.core.nodes.generated.Macro;
+import freemarker3.template.Configuration;
+import freemarker3.template.Template;
+import junit.framework.TestCase;
+
+/**
+ * Checks that templates and macros are promoted to their compiled form
+ * once they reach the compile threshold, and that the compiled form
+ * renders exactly what the interpreter does. See {@link CompileBenchmark}
+ * for how much less time the compiled form takes.
+ */
+public class CompileThresholdTest extends TestCase {
+
+    public CompileThresholdTest(String name, String filename) {
+        super(name);
+    }
+
+    protected void runTest() throws Exception {
+        testTemplatePromotion();
+        testMacroPromotion();
+    }
+
+    public void testTemplatePromotion() throws Exception {
+        Configuration cfg = new Configuration();
+        cfg.setCompileThreshold(3);
+        Template template = new Template("promoted", new StringReader(CompileBenchmark.SOURCE), cfg);
+        Template interpreted = new Template("interpreted", new StringReader(CompileBenchmark.SOURCE), new Configuration());
+        String expected = render(interpreted);
+        for (int i = 1; i <= 2; i++) {
+            assertEquals(expected, render(template));
+            assertFalse(template.isCompiled());
+            assertNull(template.getRootElement().getCompiledForm());
+        }
+        assertEquals(expected, render(template));
+        assertTrue(template.isCompiled());
+        assertNotNull(template.getRootElement().getCompiledForm());
+        assertEquals(expected, render(template));
+        assertEquals(3, template.getExecutionCount());
+        assertFalse(interpreted.isCompiled());
+    }
+
+    public void testMacroPromotion() throws Exception {
+        Configuration cfg = new Configuration();
+        cfg.setCompileThreshold(5);
+        String source = "<#macro cell x><td><#if x % 2 == 0>${x}<#else>-</#if></td></#macro>"
+                      + "<#list 1..4 as i><@cell x=i/></#list>";
+        Template template = new Template("macro", new StringReader(source), cfg);
+        Macro macro = template.getMacros().get("cell");
+        assertEquals("<td>-</td><td>2</td><td>-</td><td>4</td>", render(template));
+        assertEquals(4, macro.getExecutionCount());
+        assertNull(macro.getNestedBlock().getCompiledForm());
+        assertEquals("<td>-</td><td>2</td><td>-</td><td>4</td>", render(template));
+        assertNotNull(macro.getNestedBlock().getCompiledForm());
+        // The macro is hot, but the template has only been rendered twice.
+        assertFalse(template.isCompiled());
+    }
+
+    private static String render(Template template) throws Exception {
+        Map<String, Object> root = new HashMap<>();
+        Integer[] rows = new Integer[50];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        root.put("rows", rows);
+        StringWriter out = new StringWriter();
+        template.process(root, out);
+        return out.toString();
+    }
+}
@@ -1,6 +1,11 @@
 package freemarker3.testcase;
 
 import freemarker3.template.*;
+import freemarker3.cache.ExpressionCache;
+import freemarker3.cache.FragmentCache;
+import freemarker3.cache.SoftCacheStorage;
+import freemarker3.core.Environment;
+import freemarker3.core.Flow;
 import freemarker3.annotations.Parameters;
 import freemarker3.core.variables.*;
 import freemarker3.testcase.models.*;
@@ -8,6 +13,14 @@ import junit.framework.*;
 import java.util.*;
 import java.util.function.*;
 import java.io.*;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TemplateTestCase extends TestCase {
     
@@ -20,6 +33,13 @@ public class TemplateTestCase extends TestCase {
     File outputDir;
     
     Configuration conf = new Configuration();
+
+    boolean compile, byteOutput, publish;
+
+    int concurrentRenders;
+
+    // Expected ?eval cache counters after the render, or -1 to not check
+    long evalHits = -1, evalMisses = -1;
     
     public TemplateTestCase(String name, String filename) {
         super(name);
@@ -89,6 +109,36 @@ public class TemplateTestCase extends TestCase {
         else if ("url_escaping_charset".equals(param)) {
             conf.setURLEscapingCharset(value);
         }
+        else if ("compile_threshold".equals(param)) {
+            conf.setCompileThreshold(Integer.parseInt(value));
+        }
+        else if ("lazy_instruction_stack".equals(param)) {
+            conf.setLazyInstructionStack(Boolean.parseBoolean(value));
+        }
+        else if ("constant_folding".equals(param)) {
+            conf.setConstantFolding(Boolean.parseBoolean(value));
+        }
+        else if ("eval_cache_size".equals(param)) {
+            conf.setEvalCacheSize(Integer.parseInt(value));
+        }
+        else if ("compile".equals(param)) {
+            compile = Boolean.parseBoolean(value);
+        }
+        else if ("byte_output".equals(param)) {
+            byteOutput = Boolean.parseBoolean(value);
+        }
+        else if ("concurrent_renders".equals(param)) {
+            concurrentRenders = Integer.parseInt(value);
+        }
+        else if ("publish".equals(param)) {
+            publish = Boolean.parseBoolean(value);
+        }
+        else if ("eval_hits".equals(param)) {
+            evalHits = Long.parseLong(value);
+        }
+        else if ("eval_misses".equals(param)) {
+            evalMisses = Long.parseLong(value);
+        }
     }
     
     /*
@@ -102,6 +152,35 @@ public class TemplateTestCase extends TestCase {
         dataModel.put("message", "Hello, world!");
         
         
+        if (testName.equals("arrays")) {
+            dataModel.put("ints", new int[] {3, 1, 4, 1, 5, 9, 2, 6});
+            dataModel.put("longs", new long[] {10000000000L, -1L});
+            dataModel.put("doubles", new double[] {0.5, 2.25});
+            dataModel.put("chars", new char[] {'a', 'b'});
+            dataModel.put("strings", new String[] {"x", "y", "z"});
+        }
+
+        if (testName.equals("cache")) {
+            // The entries expire against a clock that only the template moves.
+            AtomicLong now = new AtomicLong();
+            conf.setFragmentCache(new FragmentCache(new SoftCacheStorage(), now::get));
+            dataModel.put("advance", (Function<Number, String>) millis -> {
+                now.addAndGet(millis.longValue());
+                return "";
+            });
+        }
+
+        if (testName.equals("integer-format")) {
+            dataModel.put("int", 2147483647);
+            dataModel.put("long", 9876543210L);
+            dataModel.put("minLong", Long.MIN_VALUE);
+            dataModel.put("maxLong", Long.MAX_VALUE);
+            dataModel.put("smallBigInteger", BigInteger.valueOf(-31415926));
+            dataModel.put("bigInteger", BigInteger.ONE.shiftLeft(70));
+            dataModel.put("short", (short) -32768);
+            dataModel.put("byte", (byte) 127);
+        }
+
         if (testName.equals("beans")) {
             dataModel.put("array", new String[] { "array-0", "array-1"});
             ArrayList<String> list = new ArrayList<>();
@@ -196,6 +275,15 @@ public class TemplateTestCase extends TestCase {
             dataModel.put("rectangle", new Rectangle(1.2, 2.3));
         }
 */        
+        else if (testName.equals("polymorphic-properties")) {
+            List<Object> shapes = new ArrayList<>(Arrays.asList(Shape.all()));
+            Map<String,Object> map = new HashMap<>();
+            map.put("name", "map");
+            map.put("sides", 2);
+            map.put("round", false);
+            shapes.add(map);
+            dataModel.put("shapes", shapes);
+        }
         else if (testName.equals("string-builtins3")) {
             dataModel.put("multi", new TestBoolean());
         }
@@ -216,26 +304,47 @@ public class TemplateTestCase extends TestCase {
     public void runTest() {
         try {
             template = conf.getTemplate(filename);
+            if (compile) {
+                template.compile();
+            }
         } catch (Exception e) {
             StringWriter sw = new StringWriter();
             PrintWriter pw = new PrintWriter(sw);
             e.printStackTrace(pw);
             fail("Could not load template " + filename + "\n" + sw.toString());
         }
+        if (concurrentRenders > 0) {
+            try {
+                renderConcurrently();
+            } catch (Exception e) {
+                StringWriter sw = new StringWriter();
+                PrintWriter pw = new PrintWriter(sw);
+                e.printStackTrace(pw);
+                fail("Concurrent renders of " + filename + " failed\n" + sw.toString());
+            }
+        }
         File refFile = new File (outputDir, filename);
         File outFile = new File (outputDir, filename+".out");
-        Writer out = null;
+        OutputStream stream = null;
         String encoding = conf.getOutputEncoding();
         if (encoding == null) encoding = "UTF-8";
         try {
-            out = new OutputStreamWriter(new FileOutputStream(outFile), 
-                    encoding);
+            stream = new FileOutputStream(outFile);
         } catch (IOException ioe) {
             fail("Cannot write to file: " + outFile + "\n" + ioe.getMessage());
         }
         try {
-            template.process(dataModel, out);
-            out.close();
+            if (publish) {
+                publish(stream, Charset.forName(encoding));
+                stream.close();
+            } else if (byteOutput) {
+                template.process(dataModel, stream, Charset.forName(encoding));
+                stream.close();
+            } else {
+                Writer out = new OutputStreamWriter(stream, encoding);
+                template.process(dataModel, out);
+                out.close();
+            }
         } catch (Exception e) {
             StringWriter sw = new StringWriter();
             PrintWriter pw = new PrintWriter(sw);
@@ -255,6 +364,92 @@ public class TemplateTestCase extends TestCase {
             fail("Error comparing files " + refFile + " and " + outFile + "\n" + sw.toString());
         }
         outFile.delete();
+        ExpressionCache evalCache = conf.getEvalCache();
+        if (evalHits >= 0) {
+            assertEquals("?eval cache hits", evalHits, evalCache.getHitCount());
+        }
+        if (evalMisses >= 0) {
+            assertEquals("?eval cache misses", evalMisses, evalCache.getMissCount());
+        }
+    }
+
+    /**
+     * Looks up and renders the template many times over, each render on
+     * its own thread (see {@link #newRenderExecutor()}), and checks that
+     * every render gets the same output as a render on its own.
+     */
+    private void renderConcurrently() throws Exception {
+        StringWriter expected = new StringWriter();
+        template.process(dataModel, expected);
+        ExecutorService executor = newRenderExecutor();
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < concurrentRenders; i++) {
+                results.add(executor.submit(() -> {
+                    Template t = conf.getTemplate(filename);
+                    StringWriter out = new StringWriter();
+                    t.process(dataModel, out);
+                    assertNull(Environment.getCurrentEnvironment());
+                    return out.toString();
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected.toString(), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Renders through the template's publisher, requesting one chunk
+     * at a time, so that the renderer has to wait for each request.
+     */
+    private void publish(final OutputStream stream, Charset charset) throws Exception {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        ExecutorService executor = newRenderExecutor();
+        try {
+            template.publish(dataModel, charset, executor).subscribe(new Flow.Subscriber<ByteBuffer>() {
+                Flow.Subscription subscription;
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+                public void onNext(ByteBuffer chunk) {
+                    try {
+                        stream.write(chunk.array(), chunk.position(), chunk.remaining());
+                    } catch (IOException e) {
+                        subscription.cancel();
+                        done.completeExceptionally(e);
+                    }
+                    subscription.request(1);
+                }
+                public void onError(Throwable t) {
+                    done.completeExceptionally(t);
+                }
+                public void onComplete() {
+                    done.complete(null);
+                }
+            });
+            done.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return an executor that runs each task on a new virtual thread,
+     * where the runtime has them, so that the renders (and the publisher
+     * waiting for demand) run the way a virtual-thread server runs them.
+     * On older runtimes this falls back to a thread pool much larger
+     * than the number of cores, which cannot show up carrier pinning.
+     */
+    static ExecutorService newRenderExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(64);
+        }
     }
 
     static public void compare(Reader reference, Reader output, 
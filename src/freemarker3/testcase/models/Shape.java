@@ -0,0 +1,46 @@
+package freemarker3.testcase.models;
+
+/**
+ * Beans of several classes with the same properties, for testing
+ * property lookups that see more than one class of object.
+ */
+public abstract class Shape
+{
+    public abstract String getName();
+
+    public abstract int getSides();
+
+    public boolean isRound() {
+        return getSides() == 0;
+    }
+
+    public static Shape[] all() {
+        return new Shape[] {new Circle(), new Triangle(), new Square(), new Pentagon(), new Hexagon()};
+    }
+
+    public static class Circle extends Shape {
+        public String getName() { return "circle"; }
+        public int getSides() { return 0; }
+    }
+
+    public static class Triangle extends Shape {
+        public String getName() { return "triangle"; }
+        public int getSides() { return 3; }
+    }
+
+    public static class Square extends Shape {
+        public String getName() { return "square"; }
+        public int getSides() { return 4; }
+    }
+
+    public static class Pentagon extends Shape {
+        public String getName() { return "pentagon"; }
+        public int getSides() { return 5; }
+    }
+
+    public static class Hexagon extends Shape {
+        public String getName() { return "hexagon"; }
+        public int getSides() { return 6; }
+        public String getColor() { return "blue"; }
+    }
+}
@@ -0,0 +1,18 @@
+8 3 6 4 none
+6 2 9 5 1 4 1 3 
+1 1 2 3 4 5 6 9 
+1 4 1 
+1 4 1 
+9 2 6 
+5 1 4 
+11 x
+10000000000 -1 
+0.5 2.25 
+b a 
+xyzyx
+314;159;26;
+1 2 3 3 2 1 -1 -2 3 1 
+true true
+1 0
+1,4,1
+0:6,1:2,2:8,3:2,4:10,5:18,6:4,7:12
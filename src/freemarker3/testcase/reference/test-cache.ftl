@@ -0,0 +1,10 @@
+
+   sidebar 1, render number 1
+   sidebar 2, render number 2
+   sidebar 1, render number 1
+2
+--
+1 2 1 2 
+--
+12
+no ttl of 0 no ttl of 0 
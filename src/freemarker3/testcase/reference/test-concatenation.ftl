@@ -0,0 +1,9 @@
+x y 1,234.5
+x12
+3x
+XY 3
+xy 2 found one
+true true
+xy;yx;
+x&lt;y
+[1][2][3]
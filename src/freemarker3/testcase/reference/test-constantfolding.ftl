@@ -0,0 +1,11 @@
+Hello, World
+&lt;b&gt;bold&lt;/b&gt;
+padded|3|Foo
+ISTANBUL locale
+x1 3
+&lt;escaped&gt; <raw>
+ab c 3 
+k1 k2 y
+3 3 3 
+beforeafterend
+11 22 
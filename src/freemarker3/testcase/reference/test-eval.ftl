@@ -0,0 +1,6 @@
+2 2 [1] 2 1 2 
+2 4 [2] 2 2 4 
+2 6 [3] 2 3 6 
+20 20
+parse error
+parse error again
@@ -0,0 +1,10 @@
+0 7 -7 1,234 -1,234,567 2,147,483,647 9,876,543,210 -9,876,543,210
+-9,223,372,036,854,775,808 9,223,372,036,854,775,807 -31,415,926 1,180,591,620,717,411,303,424 -1,180,591,620,717,411,303,424 -32,768 127
+1,234,567 (1,234,567) (9,223,372,036,854,775,808) (1,180,591,620,717,411,303,424)
+0000 0007 -0007 12345 -9223372036854775808
+#3 items -#3 items
+7.00 -7.00
+1,234,567 -1,234,567 1.5 -9,223,372,036,854,775,808 1,180,591,620,717,411,303,424
+1.234.567 -1.234.567
+٠ ١٬٢٣٤٬٥٦٧ ؜-٤٢ ؜-٩٬٢٢٣٬٣٧٢٬٠٣٦٬٨٥٤٬٧٧٥٬٨٠٨ ١٬١٨٠٬٥٩١٬٦٢٠٬٧١٧٬٤١١٬٣٠٣٬٤٢٤
+๑,๒๓๔,๕๖๗ -๔๒ -๙,๒๒๓,๓๗๒,๐๓๖,๘๕๔,๗๗๕,๘๐๘
@@ -0,0 +1,89 @@
+
+   0: row 1 [1],
+   a1b1
+   1: row 2 [-4],
+   a2b2
+   2: row 3 [9],
+   a3b3
+   3: row 4 [-16],
+   a4b4
+   4: row 5 [25],
+   a5b5
+   5: row 6 [-36],
+   a6b6
+   6: row 7 [49],
+   a7b7
+   7: row 8 [-64],
+   a8b8
+   8: row 9 [81],
+   a9b9
+   9: row 10 [-100],
+   a10b10
+   10: row 11 [121],
+   a11b11
+   11: row 12 [-144],
+   a12b12
+   12: row 13 [169],
+   a13b13
+   13: row 14 [-196],
+   a14b14
+   14: row 15 [225],
+   a15b15
+   15: row 16 [-256],
+   a16b16
+   16: row 17 [289],
+   a17b17
+   17: row 18 [-324],
+   a18b18
+   18: row 19 [361],
+   a19b19
+   19: row 20 [-400],
+   a20b20
+   20: row 21 [441],
+   a21b21
+   21: row 22 [-484],
+   a22b22
+   22: row 23 [529],
+   a23b23
+   23: row 24 [-576],
+   a24b24
+   24: row 25 [625],
+   a25b25
+   25: row 26 [-676],
+   a26b26
+   26: row 27 [729],
+   a27b27
+   27: row 28 [-784],
+   a28b28
+   28: row 29 [841],
+   a29b29
+   29: row 30 [-900],
+   a30b30
+   30: row 31 [961],
+   a31b31
+   31: row 32 [-1,024],
+   a32b32
+   32: row 33 [1,089],
+   a33b33
+   33: row 34 [-1,156],
+   a34b34
+   34: row 35 [1,225],
+   a35b35
+   35: row 36 [-1,296],
+   a36b36
+   36: row 37 [1,369],
+   a37b37
+   37: row 38 [-1,444],
+   a38b38
+   38: row 39 [1,521],
+   a39b39
+   39: row 40 [-1,600]
+   a40b40
+--
+xyz
+--
+12345
+--
+2 4 6 8 10 12 14 16 18 20 22 24 26 28 30 32 34 36 38 40 42 44 46 48 50 52 54 56 58 60 62 64 66 68 70 72 74 76 78 80 
+--
+Only functions that pass the check can be called within a parallel list.
@@ -0,0 +1,15 @@
+circle: 0 sides, round: true, circle, no color
+triangle: 3 sides, round: false, triangle, no color
+square: 4 sides, round: false, square, no color
+pentagon: 5 sides, round: false, pentagon, no color
+hexagon: 6 sides, round: false, hexagon, blue
+map: 2 sides, round: false, map, no color
+circle: 0 sides, round: true, circle, no color
+triangle: 3 sides, round: false, triangle, no color
+square: 4 sides, round: false, square, no color
+pentagon: 5 sides, round: false, pentagon, no color
+hexagon: 6 sides, round: false, hexagon, blue
+map: 2 sides, round: false, map, no color
+circle triangle square pentagon hexagon map 
+0 3 4 5 6 2 
+circle triangle square pentagon hexagon map 
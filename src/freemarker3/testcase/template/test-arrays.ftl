@@ -0,0 +1,20 @@
+[#ftl]
+[#setting locale="en_US"]
+${ints?size} ${ints?first} ${ints?last} ${ints[2]} ${ints[20]!"none"}
+[#list ints?reverse as i]${i} [/#list]
+[#list ints?sort as i]${i} [/#list]
+[#list ints[1..3] as i]${i} [/#list]
+[#list ints[3..1] as i]${i} [/#list]
+[#list ints[5..] as i]${i} [/#list]
+[#list ints[2..4]?reverse as i]${i} [/#list]
+${(ints + strings)?size} ${(ints + strings)[8]}
+[#list longs as l]${l?c} [/#list]
+[#list doubles as d]${d} [/#list]
+[#list chars?reverse as c]${c} [/#list]
+[#list strings[0..1] + strings[2..0] as s]${s}[/#list]
+[#list ints?chunk(3) as row][#list row as i]${i}[/#list];[/#list]
+[#list (1..3) + (3..1) + (-1..-2) + ints[0..1] as i]${i} [/#list]
+${ints?has_content?string} ${chars?has_content?string}
+${ints[0..0]?reverse?size} ${[]?reverse?size}
+[#list ints[1..3] as i]${i}[#if i_has_next],[/#if][/#list]
+[#list ints as i]${i_index}:${i * 2}[#if i_has_next],[/#if][/#list]
@@ -0,0 +1,18 @@
+<#var renders = 0>
+
+<#macro sidebar id>
+<#cache key="sidebar-" + id ttl="60s">
+<#set renders = renders + 1>
+   sidebar ${id}, render number ${renders}
+</#cache>
+</#macro>
+
+<@sidebar 1/>
+<@sidebar 2/>
+<@sidebar 1/>
+${renders}
+--
+<#list 1..4 as i><#cache key=i % 2 ttl=60>${i}</#cache> </#list>
+--
+<#list 1..2 as i><#cache key="expiring" ttl="1ms">${i}</#cache>${advance(2)}</#list>
+<#list 1..2 as i><#attempt><#cache key="never" ttl=0>${i}</#cache><#recover>no ttl of 0</#attempt> </#list>
@@ -0,0 +1,16 @@
+[#ftl]
+[#setting locale="en_US"]
+[#var a = "x", b = "y", n = 1234.5]
+[#var h = {"xy" : "found", "x1" : "one"}]
+${a + " " + b + " " + n}
+${a + 1 + 2}
+${1 + 2 + a}
+${(a + b)?upper_case} ${(a + b + a)?length}
+[#var s = a + b]
+${s} ${s?length} ${h[a + b]} ${h[a + 1]}
+${(a + b == "xy")?string} ${(s == "xy")?string}
+[#list [a + b, b + a] as x]${x};[/#list]
+[#escape x as x?html]
+${a + "<" + b}
+[/#escape]
+[#list 1..3 as i]${"[" + i + "]"}[/#list]
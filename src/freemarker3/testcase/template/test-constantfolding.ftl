@@ -0,0 +1,17 @@
+<#-- Rendered both with and without constant folding,
+     which must not make a difference. -->
+<#var greeting = "Hello" + ", " + "World">
+${greeting}
+${("<b>" + "bold" + "</b>")?html}
+${"  padded  "?trim}|${"abc"?length}|${"foo"?cap_first}
+${"Istanbul"?upper_case} ${"LOCALE"?lower_case}
+${"x" + 1} ${1 + 2}
+<#escape e as e?xml>
+${"<" + "escaped" + ">"} <#noescape>${"<" + "raw" + ">"}</#noescape>
+</#escape>
+<#list ["a" + "b", "c", 3] as item>${item} </#list>
+<#var h = {"k" + "1": "v1", "k2": ["x", "y"]}>
+<#list h?keys as k>${k} </#list>${h.k2[1]}
+<#list 1..3 as i>${(["a"] + ["b", i])?size} </#list>
+before<#-- a comment -->after<#-- another -->end
+<#list 1..2 as i><#var l = ["a" + "b", "c"], m = {"k": "v"}><#set l[0] = i, m.k = i>${l[0]}${m.k} </#list>
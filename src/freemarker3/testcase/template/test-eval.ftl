@@ -0,0 +1,9 @@
+[#ftl]
+[#var exprs = ["1 + 1", "x * 2", "'[' + x + ']'", "1 + 1", "{'a' : x}.a", "x * 2"]]
+[#list 1..3 as x]
+[#list exprs as e]${e?eval} [/#list]
+[/#list]
+[#var x = 10]
+${"x * 2"?eval} ${"x * 2"?eval}
+[#attempt]${"x +"?eval}[#recover]parse error[/#attempt]
+[#attempt]${"x +"?eval}[#recover]parse error again[/#attempt]
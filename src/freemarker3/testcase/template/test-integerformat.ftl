@@ -0,0 +1,23 @@
+[#ftl]
+[#-- Whole numbers are written without going through NumberFormat
+     where the format allows it. This checks that the output is the same. --]
+[#setting locale = "en_US"]
+[#setting number_format = "#,##0"]
+${0} ${7} ${-7} ${1234} ${-1234567} ${int} ${long} ${-long}
+${minLong} ${maxLong} ${smallBigInteger} ${bigInteger} ${-bigInteger} ${short} ${byte}
+[#setting number_format = "#,##0;(#,##0)"]
+${1234567} ${-1234567} ${minLong} ${-bigInteger}
+[#setting number_format = "0000"]
+${0} ${7} ${-7} ${12345} ${minLong}
+[#setting number_format = "'#'0' items'"]
+${3} ${-3}
+[#setting number_format = "0.00"]
+${7} ${-7}
+[#setting number_format = "number"]
+${1234567} ${-1234567} ${1.5} ${minLong} ${bigInteger}
+[#setting locale = "de_DE"]
+${1234567} ${-1234567}
+[#setting locale = "ar_EG"]
+${0} ${1234567} ${-42} ${minLong} ${bigInteger}
+[#setting locale = "th_TH_TH"]
+${1234567} ${-42} ${minLong}
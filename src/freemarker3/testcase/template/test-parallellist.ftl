@@ -0,0 +1,20 @@
+<#var label = "row">
+
+<#list 1..40 as n parallel=true chunk=7>
+   <#var square = n * n>
+   <#if n % 2 == 0><#set square = -square></#if>
+   ${n_index}: ${label} ${n} [${square}]<#if n_has_next>,</#if>
+   <#list ["a", "b"] as letter>${letter}${n}</#list>
+</#list>
+--
+<#list ["x", "y", "z"] as letter parallel=false>${letter}</#list>
+--
+<#list 1..5 as n parallel=true>${n}</#list>
+--
+<#function twice x><#var result = x * 2><#return result></#function>
+<#list 1..40 as n parallel=true chunk=7>${twice(n)} </#list>
+--
+<#function bump><#global count = count + 1><#return count></#function>
+<#global count = 0>
+<#var f = bump>
+<#attempt><#list 1..40 as n parallel=true chunk=7>${f()}</#list><#recover>Only functions that pass the check can be called within a parallel list.</#attempt>
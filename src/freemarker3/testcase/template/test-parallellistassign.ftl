@@ -0,0 +1,5 @@
+<#var total = 0>
+<#list 1..10 as n parallel=true>
+   <#set total = total + n>
+</#list>
+${total}
@@ -0,0 +1,4 @@
+<#function bump><#global count = count + 1><#return count></#function>
+<#global count = 0>
+<#list 1..20000 as i parallel=true chunk=16>${bump()}</#list>
+${count}
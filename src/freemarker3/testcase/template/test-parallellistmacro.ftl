@@ -0,0 +1,4 @@
+<#macro bump><#global count = count + 1></#macro>
+<#global count = 0>
+<#list 1..20000 as i parallel=true chunk=16><@bump/></#list>
+${count}
@@ -0,0 +1,8 @@
+<#-- The same expressions see more classes of object than
+     the inline caches on them remember. -->
+<#list shapes + shapes as shape>
+${shape.name}: ${shape.sides} sides, round: ${shape.round?string}, ${shape["name"]}, ${shape.color!"no color"}
+</#list>
+<#list ["name", "sides", "name"] as key>
+<#list shapes as shape>${shape[key]} </#list>
+</#list>